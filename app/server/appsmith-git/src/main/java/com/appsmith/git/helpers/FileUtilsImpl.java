@@ -12,11 +12,14 @@ import com.appsmith.git.configurations.GitServiceConfig;
 import com.appsmith.git.constants.CommonConstants;
 import com.appsmith.git.converters.GsonDoubleToLongConverter;
 import com.appsmith.git.converters.GsonUnorderedToOrderedConverter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.stream.JsonReader;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,11 +32,11 @@ import org.springframework.context.annotation.Import;
 import org.springframework.stereotype.Component;
 import org.springframework.util.FileSystemUtils;
 import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
-import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
@@ -46,10 +49,13 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -88,6 +94,30 @@ public class FileUtilsImpl implements FileInterface {
 
     private final Scheduler scheduler = Schedulers.boundedElastic();
 
+    private static final int FILE_WRITE_CONCURRENCY = 8;
+
+    private static final long MAX_WRITTEN_FILES = 200_000;
+
+    private static final int PAGE_READ_CONCURRENCY = Runtime.getRuntime().availableProcessors();
+
+    // Gson to pretty format JSON file
+    // Keep Long type as is by default GSON have behavior to convert to Double
+    // Convert unordered set to ordered one
+    @Getter(AccessLevel.NONE)
+    private final Gson gson = new GsonBuilder()
+            .registerTypeAdapter(Double.class, new GsonDoubleToLongConverter())
+            .registerTypeAdapter(Set.class, new GsonUnorderedToOrderedConverter())
+            .registerTypeAdapter(Map.class, new GsonUnorderedToOrderedConverter())
+            .registerTypeAdapter(Instant.class, new ISOStringToInstantConverter())
+            .disableHtmlEscaping()
+            .setPrettyPrinting()
+            .create();
+
+    // Files written by this instance, used to skip rewriting files whose content hasn't changed
+    @Getter(AccessLevel.NONE)
+    private final Cache<Path, WrittenFile> writtenFiles =
+            Caffeine.newBuilder().maximumSize(MAX_WRITTEN_FILES).build();
+
     private static final String CANVAS_WIDGET = "(Canvas)[0-9]*.";
 
     /**
@@ -197,18 +227,7 @@ public class FileUtilsImpl implements FileInterface {
                 .flatMap(isSwitched -> {
                     Path baseRepo = Paths.get(gitServiceConfig.getGitRootPath()).resolve(baseRepoSuffix);
 
-                    // Gson to pretty format JSON file
-                    // Keep Long type as is by default GSON have behavior to convert to Double
-                    // Convert unordered set to ordered one
-                    Gson gson = new GsonBuilder()
-                            .registerTypeAdapter(Double.class, new GsonDoubleToLongConverter())
-                            .registerTypeAdapter(Set.class, new GsonUnorderedToOrderedConverter())
-                            .registerTypeAdapter(Map.class, new GsonUnorderedToOrderedConverter())
-                            .registerTypeAdapter(Instant.class, new ISOStringToInstantConverter())
-                            .disableHtmlEscaping()
-                            .setPrettyPrinting()
-                            .create();
-
+                    Map<Path, String> fileWrites = new HashMap<>();
                     Set<String> validFileNames = new HashSet<>();
                     Map<String, Set<String>> updatedResources = applicationGitReference.getUpdatedResources();
 
@@ -220,7 +239,7 @@ public class FileUtilsImpl implements FileInterface {
                     saveResource(
                             applicationGitReference.getApplication(),
                             baseRepo.resolve(CommonConstants.APPLICATION + CommonConstants.JSON_EXTENSION),
-                            gson);
+                            fileWrites);
 
                     // Save application metadata
                     JsonObject metadata =
@@ -229,13 +248,13 @@ public class FileUtilsImpl implements FileInterface {
                     saveResource(
                             metadata,
                             baseRepo.resolve(CommonConstants.METADATA + CommonConstants.JSON_EXTENSION),
-                            gson);
+                            fileWrites);
 
                     // Save application theme
                     saveResource(
                             applicationGitReference.getTheme(),
                             baseRepo.resolve(CommonConstants.THEME + CommonConstants.JSON_EXTENSION),
-                            gson);
+                            fileWrites);
 
                     // Save pages
                     Path pageDirectory = baseRepo.resolve(PAGE_DIRECTORY);
@@ -254,7 +273,7 @@ public class FileUtilsImpl implements FileInterface {
                             saveResource(
                                     pageResource.getValue(),
                                     pageSpecificDirectory.resolve(pageName + CommonConstants.JSON_EXTENSION),
-                                    gson);
+                                    fileWrites);
                             Map<String, JSONObject> result = DSLTransformerHelper.flatten(new JSONObject(
                                     applicationGitReference.getPageDsl().get(pageName)));
                             result.forEach((key, jsonObject) -> {
@@ -275,7 +294,7 @@ public class FileUtilsImpl implements FileInterface {
                                         childPath);
                                 validWidgetToParentMap.put(
                                         widgetName, path.toFile().toString());
-                                saveWidgets(jsonObject, widgetName, path);
+                                saveWidgets(jsonObject, widgetName, path, fileWrites);
                             });
                             // Remove deleted widgets from the file system
                             deleteWidgets(
@@ -304,7 +323,7 @@ public class FileUtilsImpl implements FileInterface {
                         String fileNameWithExtension = uidString.replaceAll("/", "_") + CommonConstants.JSON_EXTENSION;
                         Path jsLibSpecificFile = jsLibDirectory.resolve(fileNameWithExtension);
                         if (isResourceUpdated) {
-                            saveResource(jsLibEntry.getValue(), jsLibSpecificFile, gson);
+                            saveResource(jsLibEntry.getValue(), jsLibSpecificFile, fileWrites);
                         }
                         validJsLibs.add(fileNameWithExtension);
                     });
@@ -349,7 +368,7 @@ public class FileUtilsImpl implements FileInterface {
                                                 : null,
                                         queryName,
                                         actionSpecificDirectory.resolve(queryName),
-                                        gson);
+                                        fileWrites);
                                 // Delete the resource from the old file structure v2
                                 deleteFile(pageSpecificDirectory
                                         .resolve(ACTION_DIRECTORY)
@@ -391,7 +410,7 @@ public class FileUtilsImpl implements FileInterface {
                                                 .get(resource.getKey()),
                                         actionCollectionName,
                                         actionCollectionSpecificDirectory.resolve(actionCollectionName),
-                                        gson);
+                                        fileWrites);
                                 // Delete the resource from the old file structure v2
                                 deleteFile(actionCollectionSpecificDirectory.resolve(
                                         actionCollectionName + CommonConstants.JSON_EXTENSION));
@@ -413,15 +432,18 @@ public class FileUtilsImpl implements FileInterface {
                                 resource.getValue(),
                                 baseRepo.resolve(DATASOURCE_DIRECTORY)
                                         .resolve(resource.getKey() + CommonConstants.JSON_EXTENSION),
-                                gson);
+                                fileWrites);
                         validFileNames.add(resource.getKey() + CommonConstants.JSON_EXTENSION);
                     }
                     // Scan datasource directory and delete any unwanted files if present
                     if (!applicationGitReference.getDatasources().isEmpty()) {
                         scanAndDeleteFileForDeletedResources(validFileNames, baseRepo.resolve(DATASOURCE_DIRECTORY));
                     }
-                    processStopwatch.stopAndLogTimeInMillis();
-                    return Mono.just(baseRepo);
+
+                    return writeFiles(fileWrites).then(Mono.fromCallable(() -> {
+                        processStopwatch.stopAndLogTimeInMillis();
+                        return baseRepo;
+                    }));
                 })
                 .subscribeOn(scheduler);
     }
@@ -430,27 +452,14 @@ public class FileUtilsImpl implements FileInterface {
      * This method will be used to store the DB resource to JSON file
      * @param sourceEntity resource extracted from DB to be stored in file
      * @param path file path where the resource to be stored
-     * @param gson
-     * @return if the file operation is successful
+     * @param fileWrites files to be written once the application has been serialized, keyed by their path
      */
-    private boolean saveResource(Object sourceEntity, Path path, Gson gson) {
-        try {
-            Files.createDirectories(path.getParent());
-            return writeToFile(sourceEntity, path, gson);
-        } catch (IOException e) {
-            log.error("Error while writing resource to file {} with {}", path, e.getMessage());
-            log.debug(e.getMessage());
-        }
-        return false;
+    private void saveResource(Object sourceEntity, Path path, Map<Path, String> fileWrites) {
+        fileWrites.put(path, gson.toJson(sourceEntity));
     }
 
-    private void saveWidgets(JSONObject sourceEntity, String resourceName, Path path) {
-        try {
-            Files.createDirectories(path);
-            writeStringToFile(sourceEntity.toString(4), path.resolve(resourceName + CommonConstants.JSON_EXTENSION));
-        } catch (IOException e) {
-            log.debug("Error while writings widgets data to file, {}", e.getMessage());
-        }
+    private void saveWidgets(JSONObject sourceEntity, String resourceName, Path path, Map<Path, String> fileWrites) {
+        fileWrites.put(path.resolve(resourceName + CommonConstants.JSON_EXTENSION), sourceEntity.toString(4));
     }
 
     /**
@@ -461,23 +470,17 @@ public class FileUtilsImpl implements FileInterface {
      * @param body actual js code written by the user
      * @param resourceName name of the action collection
      * @param path file path where the resource will be stored
-     * @param gson
-     * @return if the file operation is successful
+     * @param fileWrites files to be written once the application has been serialized, keyed by their path
      */
-    private boolean saveActionCollection(Object sourceEntity, String body, String resourceName, Path path, Gson gson) {
-        try {
-            Files.createDirectories(path);
-            // Write the js Object body to .js file to make conflict handling easier
-            Path bodyPath = path.resolve(resourceName + CommonConstants.JS_EXTENSION);
-            writeStringToFile(body, bodyPath);
-
-            // Write metadata for the jsObject
-            Path metadataPath = path.resolve(CommonConstants.METADATA + CommonConstants.JSON_EXTENSION);
-            return writeToFile(sourceEntity, metadataPath, gson);
-        } catch (IOException e) {
-            log.debug(e.getMessage());
+    private void saveActionCollection(
+            Object sourceEntity, String body, String resourceName, Path path, Map<Path, String> fileWrites) {
+        // Write the js Object body to .js file to make conflict handling easier
+        if (body != null) {
+            fileWrites.put(path.resolve(resourceName + CommonConstants.JS_EXTENSION), body);
         }
-        return false;
+
+        // Write metadata for the jsObject
+        saveResource(sourceEntity, path.resolve(CommonConstants.METADATA + CommonConstants.JSON_EXTENSION), fileWrites);
     }
 
     /**
@@ -488,39 +491,92 @@ public class FileUtilsImpl implements FileInterface {
      * @param body actual query written by the user
      * @param resourceName name of the action
      * @param path file path where the resource will be stored
-     * @param gson
-     * @return if the file operation is successful
+     * @param fileWrites files to be written once the application has been serialized, keyed by their path
+     */
+    private void saveActions(
+            Object sourceEntity, String body, String resourceName, Path path, Map<Path, String> fileWrites) {
+        // Write the user written query to .txt file to make conflict handling easier
+        // Body will be null if the action is of type JS
+        if (StringUtils.hasLength(body)) {
+            fileWrites.put(path.resolve(resourceName + CommonConstants.TEXT_FILE_EXTENSION), body);
+        }
+
+        // Write metadata for the actions
+        saveResource(sourceEntity, path.resolve(CommonConstants.METADATA + CommonConstants.JSON_EXTENSION), fileWrites);
+    }
+
+    /**
+     * Writes the serialized files to the repo, a few at a time on the file system scheduler
+     * @param fileWrites contents of the files, keyed by their path
+     */
+    private Mono<Void> writeFiles(Map<Path, String> fileWrites) {
+        return Flux.fromIterable(fileWrites.entrySet())
+                .flatMap(
+                        fileWrite -> Mono.fromRunnable(
+                                        () -> writeFileIfChanged(fileWrite.getKey(), fileWrite.getValue()))
+                                .subscribeOn(scheduler),
+                        FILE_WRITE_CONCURRENCY)
+                .then();
+    }
+
+    /**
+     * Writes the content to the file, unless the file already has the same content. Files that are left untouched keep
+     * their modification time, so git doesn't have to hash them again to find the status of the repo.
+     * @param path file that needs to be written
+     * @param content serialized resource
      */
-    private boolean saveActions(Object sourceEntity, String body, String resourceName, Path path, Gson gson) {
+    private void writeFileIfChanged(Path path, String content) {
+        final byte[] data = content.getBytes(StandardCharsets.UTF_8);
+        final String contentHash = getContentHash(data);
         try {
-            Files.createDirectories(path);
-            // Write the user written query to .txt file to make conflict handling easier
-            // Body will be null if the action is of type JS
-            if (StringUtils.hasLength(body)) {
-                Path bodyPath = path.resolve(resourceName + CommonConstants.TEXT_FILE_EXTENSION);
-                writeStringToFile(body, bodyPath);
+            if (Files.exists(path)) {
+                BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                WrittenFile writtenFile = writtenFiles.getIfPresent(path);
+                // The file on disk is the one this instance wrote last, unless git has replaced it since
+                boolean isWrittenFileUnchanged = writtenFile != null
+                        && writtenFile.isSameFile(attributes)
+                        && writtenFile.hasContent(contentHash);
+                if (isWrittenFileUnchanged
+                        || (attributes.size() == data.length && Arrays.equals(Files.readAllBytes(path), data))) {
+                    writtenFiles.put(path, new WrittenFile(contentHash, attributes));
+                    return;
+                }
             }
 
-            // Write metadata for the actions
-            Path metadataPath = path.resolve(CommonConstants.METADATA + CommonConstants.JSON_EXTENSION);
-            return writeToFile(sourceEntity, metadataPath, gson);
+            Files.createDirectories(path.getParent());
+            Files.write(path, data);
+            writtenFiles.put(path, new WrittenFile(contentHash, Files.readAttributes(path, BasicFileAttributes.class)));
         } catch (IOException e) {
-            log.error("Error while reading file {} with message {} with cause", path, e.getMessage(), e.getCause());
+            writtenFiles.invalidate(path);
+            log.error("Error while writing resource to file {} with {}", path, e.getMessage());
         }
-        return false;
     }
 
-    private boolean writeStringToFile(String data, Path path) throws IOException {
-        try (BufferedWriter fileWriter = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
-            fileWriter.write(data);
-            return true;
+    private static String getContentHash(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
         }
     }
 
-    private boolean writeToFile(Object sourceEntity, Path path, Gson gson) throws IOException {
-        try (BufferedWriter fileWriter = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
-            gson.toJson(sourceEntity, fileWriter);
-            return true;
+    /**
+     * Hash of the content this instance wrote to a file, along with the attributes the file had right after that
+     */
+    private record WrittenFile(String contentHash, long size, FileTime lastModifiedTime, Object fileKey) {
+
+        WrittenFile(String contentHash, BasicFileAttributes attributes) {
+            this(contentHash, attributes.size(), attributes.lastModifiedTime(), attributes.fileKey());
+        }
+
+        boolean isSameFile(BasicFileAttributes attributes) {
+            return size == attributes.size()
+                    && lastModifiedTime.equals(attributes.lastModifiedTime())
+                    && Objects.equals(fileKey, attributes.fileKey());
+        }
+
+        boolean hasContent(String hash) {
+            return contentHash.equals(hash);
         }
     }
 
@@ -610,7 +666,7 @@ public class FileUtilsImpl implements FileInterface {
         // Checkout to mentioned branch if not already checked-out
         return gitExecutor
                 .checkoutToBranch(baseRepoSuffix, branchName)
-                .map(isSwitched -> {
+                .flatMap(isSwitched -> {
                     Path baseRepoPath =
                             Paths.get(gitServiceConfig.getGitRootPath()).resolve(baseRepoSuffix);
 
@@ -622,10 +678,9 @@ public class FileUtilsImpl implements FileInterface {
                                     DatasourceStructure.Key.class, new DatasourceStructure.KeyInstanceCreator())
                             .create();
 
-                    ApplicationGitReference applicationGitReference = fetchApplicationReference(baseRepoPath, gson);
-                    processStopwatch.stopAndLogTimeInMillis();
-                    return applicationGitReference;
+                    return fetchApplicationReference(baseRepoPath, gson);
                 })
+                .doOnNext(applicationGitReference -> processStopwatch.stopAndLogTimeInMillis())
                 .subscribeOn(scheduler);
     }
 
@@ -822,7 +877,7 @@ public class FileUtilsImpl implements FileInterface {
         return readFile(directoryPath.resolve(directoryPath.toFile().getName() + CommonConstants.JSON_EXTENSION), gson);
     }
 
-    private ApplicationGitReference fetchApplicationReference(Path baseRepoPath, Gson gson) {
+    private Mono<ApplicationGitReference> fetchApplicationReference(Path baseRepoPath, Gson gson) {
         ApplicationGitReference applicationGitReference = new ApplicationGitReference();
         // Extract application metadata from the json
         Object metadata =
@@ -838,6 +893,7 @@ public class FileUtilsImpl implements FileInterface {
         applicationGitReference.setTheme(
                 readFile(baseRepoPath.resolve(CommonConstants.THEME + CommonConstants.JSON_EXTENSION), gson));
         Path pageDirectory = baseRepoPath.resolve(PAGE_DIRECTORY);
+        Mono<Void> readPagesMono = Mono.empty();
         // Reconstruct application from given file format
         switch (fileFormatVersion) {
             case 1:
@@ -862,19 +918,22 @@ public class FileUtilsImpl implements FileInterface {
                 break;
 
             case 5:
-                updateGitApplicationReferenceV2(
+                readPagesMono = updateGitApplicationReferenceV2(
                         baseRepoPath, gson, applicationGitReference, pageDirectory, fileFormatVersion);
                 break;
 
             default:
         }
-        applicationGitReference.setMetadata(metadata);
 
-        Path jsLibDirectory = baseRepoPath.resolve(JS_LIB_DIRECTORY);
-        Map<String, Object> jsLibrariesMap = readFiles(jsLibDirectory, gson, CommonConstants.EMPTY_STRING);
-        applicationGitReference.setJsLibraries(jsLibrariesMap);
+        return readPagesMono.then(Mono.fromCallable(() -> {
+            applicationGitReference.setMetadata(metadata);
+
+            Path jsLibDirectory = baseRepoPath.resolve(JS_LIB_DIRECTORY);
+            Map<String, Object> jsLibrariesMap = readFiles(jsLibDirectory, gson, CommonConstants.EMPTY_STRING);
+            applicationGitReference.setJsLibraries(jsLibrariesMap);
 
-        return applicationGitReference;
+            return applicationGitReference;
+        }));
     }
 
     @Deprecated
@@ -942,7 +1001,11 @@ public class FileUtilsImpl implements FileInterface {
         return savedFileFormat <= CommonConstants.fileFormatVersion;
     }
 
-    private void updateGitApplicationReferenceV2(
+    /**
+     * Reads the pages of the application, along with their widgets, actions and JS objects. Every page directory is read
+     * on its own, so that several pages are read in parallel.
+     */
+    private Mono<Void> updateGitApplicationReferenceV2(
             Path baseRepoPath,
             Gson gson,
             ApplicationGitReference applicationGitReference,
@@ -950,51 +1013,85 @@ public class FileUtilsImpl implements FileInterface {
             int fileFormatVersion) {
         // Extract pages and nested actions and actionCollections
         File directory = pageDirectory.toFile();
-        Map<String, Object> pageMap = new HashMap<>();
-        Map<String, String> pageDsl = new HashMap<>();
-        Map<String, Object> actionMap = new HashMap<>();
+        File[] pages = directory.isDirectory() ? Objects.requireNonNull(directory.listFiles()) : new File[0];
+
+        return Flux.fromArray(pages)
+                .filter(File::isDirectory)
+                .flatMap(
+                        page -> Mono.fromCallable(() -> readPage(page.toPath(), gson))
+                                .subscribeOn(scheduler),
+                        PAGE_READ_CONCURRENCY)
+                .collectList()
+                .doOnNext(pageReferences -> {
+                    Map<String, Object> pageMap = new HashMap<>();
+                    Map<String, String> pageDsl = new HashMap<>();
+                    Map<String, Object> actionMap = new HashMap<>();
+                    Map<String, String> actionBodyMap = new HashMap<>();
+                    Map<String, Object> actionCollectionMap = new HashMap<>();
+                    Map<String, String> actionCollectionBodyMap = new HashMap<>();
+                    for (PageReference pageReference : pageReferences) {
+                        pageMap.put(pageReference.pageName(), pageReference.metadata());
+                        pageDsl.put(pageReference.pageName(), pageReference.dsl());
+                        actionMap.putAll(pageReference.actions());
+                        actionBodyMap.putAll(pageReference.actionBodies());
+                        actionCollectionMap.putAll(pageReference.actionCollections());
+                        actionCollectionBodyMap.putAll(pageReference.actionCollectionBodies());
+                    }
+                    applicationGitReference.setActions(actionMap);
+                    applicationGitReference.setActionBody(actionBodyMap);
+                    applicationGitReference.setActionCollections(actionCollectionMap);
+                    applicationGitReference.setActionCollectionBody(actionCollectionBodyMap);
+                    applicationGitReference.setPages(pageMap);
+                    applicationGitReference.setPageDsl(pageDsl);
+                    // Extract datasources
+                    applicationGitReference.setDatasources(
+                            readFiles(baseRepoPath.resolve(DATASOURCE_DIRECTORY), gson, CommonConstants.EMPTY_STRING));
+                })
+                .then();
+    }
+
+    private PageReference readPage(Path pagePath, Gson gson) {
+        String pageName = pagePath.getFileName().toString();
+        Object pageMetadata = readPageMetadata(pagePath, gson);
+
+        JSONObject mainContainer = getMainContainer(pageMetadata, gson);
+
+        // Read widgets data recursively from the widgets directory
+        Map<String, JSONObject> widgetsData =
+                readWidgetsData(pagePath.resolve(CommonConstants.WIDGETS).toString());
+        // Construct the nested DSL from the widgets data
+        Map<String, List<String>> parentDirectories = DSLTransformerHelper.calculateParentDirectories(
+                widgetsData.keySet().stream().toList());
+        JSONObject nestedDSL = DSLTransformerHelper.getNestedDSL(widgetsData, parentDirectories, mainContainer);
+
         Map<String, String> actionBodyMap = new HashMap<>();
-        Map<String, Object> actionCollectionMap = new HashMap<>();
+        Map<String, Object> actionMap = readAction(pagePath.resolve(ACTION_DIRECTORY), gson, pageName, actionBodyMap);
         Map<String, String> actionCollectionBodyMap = new HashMap<>();
-        if (directory.isDirectory()) {
-            // Loop through all the directories and nested directories inside the pages directory to extract
-            // pages, actions and actionCollections from the JSON files
-            for (File page : Objects.requireNonNull(directory.listFiles())) {
-                if (page.isDirectory()) {
-                    pageMap.put(page.getName(), readPageMetadata(page.toPath(), gson));
-
-                    JSONObject mainContainer = getMainContainer(pageMap.get(page.getName()), gson);
-
-                    // Read widgets data recursively from the widgets directory
-                    Map<String, JSONObject> widgetsData = readWidgetsData(
-                            page.toPath().resolve(CommonConstants.WIDGETS).toString());
-                    // Construct the nested DSL from the widgets data
-                    Map<String, List<String>> parentDirectories = DSLTransformerHelper.calculateParentDirectories(
-                            widgetsData.keySet().stream().toList());
-                    JSONObject nestedDSL =
-                            DSLTransformerHelper.getNestedDSL(widgetsData, parentDirectories, mainContainer);
-                    pageDsl.put(page.getName(), nestedDSL.toString());
-                    actionMap.putAll(
-                            readAction(page.toPath().resolve(ACTION_DIRECTORY), gson, page.getName(), actionBodyMap));
-                    actionCollectionMap.putAll(readActionCollection(
-                            page.toPath().resolve(ACTION_COLLECTION_DIRECTORY),
-                            gson,
-                            page.getName(),
-                            actionCollectionBodyMap));
-                }
-            }
-        }
-        applicationGitReference.setActions(actionMap);
-        applicationGitReference.setActionBody(actionBodyMap);
-        applicationGitReference.setActionCollections(actionCollectionMap);
-        applicationGitReference.setActionCollectionBody(actionCollectionBodyMap);
-        applicationGitReference.setPages(pageMap);
-        applicationGitReference.setPageDsl(pageDsl);
-        // Extract datasources
-        applicationGitReference.setDatasources(
-                readFiles(baseRepoPath.resolve(DATASOURCE_DIRECTORY), gson, CommonConstants.EMPTY_STRING));
+        Map<String, Object> actionCollectionMap = readActionCollection(
+                pagePath.resolve(ACTION_COLLECTION_DIRECTORY), gson, pageName, actionCollectionBodyMap);
+
+        return new PageReference(
+                pageName,
+                pageMetadata,
+                nestedDSL.toString(),
+                actionMap,
+                actionBodyMap,
+                actionCollectionMap,
+                actionCollectionBodyMap);
     }
 
+    /**
+     * Resources read from the directory of a single page
+     */
+    private record PageReference(
+            String pageName,
+            Object metadata,
+            String dsl,
+            Map<String, Object> actions,
+            Map<String, String> actionBodies,
+            Map<String, Object> actionCollections,
+            Map<String, String> actionCollectionBodies) {}
+
     private Map<String, JSONObject> readWidgetsData(String directoryPath) {
         Map<String, JSONObject> jsonMap = new HashMap<>();
         File directory = new File(directoryPath);
@@ -0,0 +1,175 @@
+package com.appsmith.git.helpers;
+
+import com.appsmith.external.git.GitExecutor;
+import com.appsmith.external.models.ApplicationGitReference;
+import com.appsmith.git.configurations.GitServiceConfig;
+import org.apache.commons.io.FileUtils;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static com.appsmith.external.constants.GitConstants.ACTION_COLLECTION_LIST;
+import static com.appsmith.external.constants.GitConstants.ACTION_LIST;
+import static com.appsmith.external.constants.GitConstants.CUSTOM_JS_LIB_LIST;
+import static com.appsmith.external.constants.GitConstants.NAME_SEPARATOR;
+import static com.appsmith.external.constants.GitConstants.PAGE_LIST;
+
+/**
+ * Measures reading a generated application back from its git repo, for apps with 10 and 50 pages that each have 200
+ * widgets, 20 queries and 5 JS objects. Run it with the `main` method, after compiling the test classes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class FileUtilsImplBenchmark {
+
+    private static final int WIDGETS_PER_PAGE = 200;
+
+    private static final int ACTIONS_PER_PAGE = 20;
+
+    private static final int ACTION_COLLECTIONS_PER_PAGE = 5;
+
+    @Param({"10", "50"})
+    private int pageCount;
+
+    private Path gitRootPath;
+
+    private FileUtilsImpl fileUtils;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException, GitAPIException {
+        gitRootPath = Files.createTempDirectory("git-repo-benchmark");
+        GitServiceConfig gitServiceConfig = new GitServiceConfig();
+        gitServiceConfig.setGitRootPath(gitRootPath.toString());
+
+        GitExecutor gitExecutor = Mockito.mock(GitExecutor.class);
+        Mockito.when(gitExecutor.resetToLastCommit(Mockito.any(Path.class), Mockito.any()))
+                .thenReturn(Mono.just(true));
+        Mockito.when(gitExecutor.checkoutToBranch(Mockito.any(Path.class), Mockito.any()))
+                .thenReturn(Mono.just(true));
+
+        fileUtils = new FileUtilsImpl(gitServiceConfig, gitExecutor);
+        fileUtils
+                .saveApplicationToGitRepo(Path.of("workspace", "application", "repo"), createApplication(), "main")
+                .block();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(gitRootPath.toFile());
+    }
+
+    @Benchmark
+    public ApplicationGitReference reconstructApplication() {
+        return fileUtils
+                .reconstructApplicationReferenceFromGitRepo("workspace", "application", "repo", "main")
+                .block();
+    }
+
+    private ApplicationGitReference createApplication() {
+        Map<String, Object> pages = new HashMap<>();
+        Map<String, String> pageDsl = new HashMap<>();
+        Map<String, Object> actions = new HashMap<>();
+        Map<String, String> actionBody = new HashMap<>();
+        Map<String, Object> actionCollections = new HashMap<>();
+        Map<String, String> actionCollectionBody = new HashMap<>();
+
+        for (int page = 0; page < pageCount; page++) {
+            String pageName = "Page" + page;
+            JSONObject mainContainer = new JSONObject()
+                    .put("widgetName", "MainContainer")
+                    .put("type", "CANVAS_WIDGET")
+                    .put("children", new JSONArray());
+            pages.put(
+                    pageName,
+                    Map.of(
+                            "unpublishedPage",
+                            Map.of("name", pageName, "layouts", List.of(Map.of("dsl", mainContainer.toMap())))));
+
+            JSONArray widgets = new JSONArray();
+            for (int widget = 0; widget < WIDGETS_PER_PAGE; widget++) {
+                widgets.put(new JSONObject()
+                        .put("widgetName", "Text" + page + "_" + widget)
+                        .put("type", "TEXT_WIDGET")
+                        .put("text", "{{Query" + widget % ACTIONS_PER_PAGE + ".data}}")
+                        .put("topRow", widget * 4)
+                        .put("bottomRow", widget * 4 + 4));
+            }
+            pageDsl.put(
+                    pageName,
+                    new JSONObject(mainContainer.toString())
+                            .put("children", widgets)
+                            .toString());
+
+            for (int action = 0; action < ACTIONS_PER_PAGE; action++) {
+                String key = "Query" + action + NAME_SEPARATOR + pageName;
+                actions.put(key, Map.of("name", "Query" + action, "pageId", pageName));
+                actionBody.put(key, "SELECT * FROM users WHERE id = {{Input" + action + ".text}}");
+            }
+
+            for (int actionCollection = 0; actionCollection < ACTION_COLLECTIONS_PER_PAGE; actionCollection++) {
+                String key = "JSObject" + actionCollection + NAME_SEPARATOR + pageName;
+                actionCollections.put(key, Map.of("name", "JSObject" + actionCollection, "pageId", pageName));
+                actionCollectionBody.put(key, "export default {\n\tmyFun1: () => {\n\t\treturn Query1.data;\n\t}\n}");
+            }
+        }
+
+        ApplicationGitReference applicationGitReference = new ApplicationGitReference();
+        applicationGitReference.setApplication(Map.of("name", "Benchmark"));
+        applicationGitReference.setMetadata(Map.of("artifactJsonType", "APPLICATION"));
+        applicationGitReference.setTheme(Map.of("name", "Default"));
+        applicationGitReference.setPages(pages);
+        applicationGitReference.setPageDsl(pageDsl);
+        applicationGitReference.setActions(actions);
+        applicationGitReference.setActionBody(actionBody);
+        applicationGitReference.setActionCollections(actionCollections);
+        applicationGitReference.setActionCollectionBody(actionCollectionBody);
+        applicationGitReference.setDatasources(new HashMap<>());
+        applicationGitReference.setJsLibraries(new HashMap<>());
+        applicationGitReference.setUpdatedResources(Map.of(
+                PAGE_LIST, new HashSet<>(pages.keySet()),
+                ACTION_LIST, new HashSet<>(actions.keySet()),
+                ACTION_COLLECTION_LIST, new HashSet<>(actionCollections.keySet()),
+                CUSTOM_JS_LIB_LIST, Set.of()));
+        return applicationGitReference;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(FileUtilsImplBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -5,6 +5,7 @@ import com.appsmith.git.configurations.GitServiceConfig;
 import com.appsmith.git.service.GitExecutorImpl;
 import org.apache.commons.io.FileUtils;
 import org.eclipse.jgit.api.errors.GitAPIException;
+import org.json.JSONObject;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,12 +19,22 @@ import reactor.core.publisher.Mono;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static com.appsmith.external.constants.GitConstants.ACTION_COLLECTION_LIST;
+import static com.appsmith.external.constants.GitConstants.ACTION_LIST;
+import static com.appsmith.external.constants.GitConstants.CUSTOM_JS_LIB_LIST;
+import static com.appsmith.external.constants.GitConstants.NAME_SEPARATOR;
+import static com.appsmith.external.constants.GitConstants.PAGE_LIST;
 import static com.appsmith.git.constants.GitDirectories.ACTION_COLLECTION_DIRECTORY;
 import static com.appsmith.git.constants.GitDirectories.ACTION_DIRECTORY;
 import static com.appsmith.git.constants.GitDirectories.PAGE_DIRECTORY;
@@ -78,6 +89,108 @@ public class FileUtilsImplTest {
         Assertions.assertFalse(actionCollectionDirectoryPath.toFile().exists());
     }
 
+    @Test
+    public void saveApplicationRef_whenSavedAgain_onlyRewritesChangedFiles() throws GitAPIException, IOException {
+        Mockito.when(gitExecutor.resetToLastCommit(Mockito.any(Path.class), Mockito.any()))
+                .thenReturn(Mono.just(true));
+
+        ApplicationGitReference applicationGitReference = new ApplicationGitReference();
+        applicationGitReference.setApplication(Map.of("name", "application"));
+        applicationGitReference.setMetadata(Map.of("artifactJsonType", "APPLICATION"));
+        applicationGitReference.setTheme(Map.of("name", "Default"));
+        applicationGitReference.setPages(new HashMap<>());
+        applicationGitReference.setActions(new HashMap<>());
+        applicationGitReference.setActionCollections(new HashMap<>());
+        applicationGitReference.setDatasources(new HashMap<>());
+        applicationGitReference.setJsLibraries(new HashMap<>());
+        fileUtils
+                .saveApplicationToGitRepo(Path.of(""), applicationGitReference, "branch")
+                .block();
+
+        Path applicationPath = localTestDirectoryPath.resolve("application.json");
+        Path metadataPath = localTestDirectoryPath.resolve("metadata.json");
+        Path themePath = localTestDirectoryPath.resolve("theme.json");
+        FileTime oldModifiedTime = FileTime.from(Instant.now().minus(1, ChronoUnit.DAYS));
+        Files.setLastModifiedTime(applicationPath, oldModifiedTime);
+        Files.setLastModifiedTime(themePath, oldModifiedTime);
+        String metadata = Files.readString(metadataPath);
+        // Stands for the file being replaced by git, e.g. after a reset
+        Files.writeString(metadataPath, "{}");
+
+        applicationGitReference.setTheme(Map.of("name", "Sharp"));
+        fileUtils
+                .saveApplicationToGitRepo(Path.of(""), applicationGitReference, "branch")
+                .block();
+
+        Assertions.assertEquals(oldModifiedTime, Files.getLastModifiedTime(applicationPath));
+        Assertions.assertNotEquals(oldModifiedTime, Files.getLastModifiedTime(themePath));
+        Assertions.assertTrue(Files.readString(themePath).contains("Sharp"));
+        Assertions.assertEquals(metadata, Files.readString(metadataPath));
+    }
+
+    @Test
+    public void reconstructApplicationRef_withSeveralPages_readsEveryPage() throws GitAPIException, IOException {
+        Mockito.when(gitExecutor.resetToLastCommit(Mockito.any(Path.class), Mockito.any()))
+                .thenReturn(Mono.just(true));
+        Mockito.when(gitExecutor.checkoutToBranch(Mockito.any(Path.class), Mockito.any()))
+                .thenReturn(Mono.just(true));
+
+        Map<String, Object> pages = new HashMap<>();
+        Map<String, String> pageDsl = new HashMap<>();
+        Map<String, Object> actions = new HashMap<>();
+        Map<String, String> actionBody = new HashMap<>();
+        for (int i = 0; i < 5; i++) {
+            String pageName = "Page" + i;
+            Map<String, Object> mainContainer = Map.of("widgetName", "MainContainer", "type", "CANVAS_WIDGET");
+            pages.put(
+                    pageName,
+                    Map.of(
+                            "unpublishedPage",
+                            Map.of("name", pageName, "layouts", List.of(Map.of("dsl", mainContainer)))));
+            pageDsl.put(
+                    pageName,
+                    new JSONObject(mainContainer)
+                            .put("children", List.of(Map.of("widgetName", "Text" + i, "type", "TEXT_WIDGET")))
+                            .toString());
+            actions.put("Query" + i + NAME_SEPARATOR + pageName, Map.of("name", "Query" + i));
+            actionBody.put("Query" + i + NAME_SEPARATOR + pageName, "SELECT " + i);
+        }
+
+        ApplicationGitReference applicationGitReference = new ApplicationGitReference();
+        applicationGitReference.setApplication(Map.of("name", "application"));
+        applicationGitReference.setMetadata(Map.of("artifactJsonType", "APPLICATION"));
+        applicationGitReference.setPages(pages);
+        applicationGitReference.setPageDsl(pageDsl);
+        applicationGitReference.setActions(actions);
+        applicationGitReference.setActionBody(actionBody);
+        applicationGitReference.setActionCollections(new HashMap<>());
+        applicationGitReference.setDatasources(new HashMap<>());
+        applicationGitReference.setJsLibraries(new HashMap<>());
+        applicationGitReference.setUpdatedResources(Map.of(
+                PAGE_LIST, pages.keySet(),
+                ACTION_LIST, actions.keySet(),
+                ACTION_COLLECTION_LIST, Set.of(),
+                CUSTOM_JS_LIB_LIST, Set.of()));
+        fileUtils
+                .saveApplicationToGitRepo(Path.of("workspace", "application", "repo"), applicationGitReference, "main")
+                .block();
+
+        ApplicationGitReference reconstructedReference = fileUtils
+                .reconstructApplicationReferenceFromGitRepo("workspace", "application", "repo", "main")
+                .block();
+
+        Assertions.assertEquals(
+                pages.keySet(), reconstructedReference.getPages().keySet());
+        for (int i = 0; i < 5; i++) {
+            // Resources read from a page directory are keyed by their name followed by the page name
+            Assertions.assertEquals(
+                    "SELECT " + i, reconstructedReference.getActionBody().get("Query" + i + "Page" + i));
+            JSONObject dsl = new JSONObject(reconstructedReference.getPageDsl().get("Page" + i));
+            Assertions.assertEquals(
+                    "Text" + i, dsl.getJSONArray("children").getJSONObject(0).getString("widgetName"));
+        }
+    }
+
     @Test
     public void testScanAndDeleteDirectoryForDeletedResources() {
         Path pageDirectoryPath = localTestDirectoryPath.resolve(PAGE_DIRECTORY);
@@ -0,0 +1,84 @@
+package com.appsmith.external.helpers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Getter;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Keeps a running estimate of the size of a query response, as the number of characters it takes when serialized to
+ * JSON. Plugins add rows to it as they are read from the result set, so that checking the response against the maximum
+ * supported size costs as much as the new row, instead of serializing everything read so far.
+ */
+@Getter
+public class ResponseSizeEstimator {
+
+    // Quotes around the key, the colon after it and the comma after the value
+    private static final int ENTRY_OVERHEAD = 4;
+
+    // Braces or brackets around an object or array
+    private static final int CONTAINER_OVERHEAD = 2;
+
+    private long size = CONTAINER_OVERHEAD;
+
+    public void addRow(Map<String, Object> row) {
+        size += estimate(row) + 1;
+    }
+
+    public boolean isLargerThan(long maxSize) {
+        return size > maxSize;
+    }
+
+    public static long estimate(Object value) {
+        if (value == null) {
+            return 4;
+        }
+
+        if (value instanceof CharSequence) {
+            return ((CharSequence) value).length() + 2;
+        }
+
+        if (value instanceof Number || value instanceof Boolean) {
+            return value.toString().length();
+        }
+
+        if (value instanceof JsonNode) {
+            return value.toString().length();
+        }
+
+        if (value instanceof Map<?, ?>) {
+            long mapSize = CONTAINER_OVERHEAD;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                mapSize += String.valueOf(entry.getKey()).length() + ENTRY_OVERHEAD + estimate(entry.getValue());
+            }
+            return mapSize;
+        }
+
+        if (value instanceof Collection<?>) {
+            long collectionSize = CONTAINER_OVERHEAD;
+            for (Object element : (Collection<?>) value) {
+                collectionSize += estimate(element) + 1;
+            }
+            return collectionSize;
+        }
+
+        if (value instanceof byte[]) {
+            // Binary data is serialized as a base64 string
+            return (((byte[]) value).length + 2) / 3 * 4 + 2;
+        }
+
+        if (value.getClass().isArray()) {
+            long arraySize = CONTAINER_OVERHEAD;
+            int length = Array.getLength(value);
+            for (int i = 0; i < length; i++) {
+                arraySize += estimate(Array.get(value, i)) + 1;
+            }
+            return arraySize;
+        }
+
+        // Anything else gets serialized as its string form
+        return value.toString().length() + 2;
+    }
+}
@@ -10,11 +10,16 @@ import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.Property;
+import com.appsmith.external.models.SSLDetails;
+import com.appsmith.external.services.SharedConfig;
 import com.appsmith.util.WebClientUtils;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import lombok.NoArgsConstructor;
@@ -61,6 +66,40 @@ public class RestAPIActivateUtils {
             "application/x-binary");
     public static HeaderUtils headerUtils = new HeaderUtils();
 
+    private static final Duration CONNECTION_MAX_IDLE_TIME = Duration.ofSeconds(600);
+    private static final Duration CONNECTION_PROVIDER_DISPOSE_TIMEOUT = Duration.ofMinutes(5);
+    private static final int MAX_CACHED_HTTP_CLIENTS = 1000;
+
+    /*
+     HTTP clients, and the connection pools behind them, shared by all actions whose datasources have the same TLS
+     settings. Pools keep connections to each remote host separately, so sharing them across datasources is safe and
+     lets consecutive calls reuse warm connections instead of doing a new TCP and TLS handshake every time. A client
+     that isn't used for as long as its connections may stay idle, e.g. after its datasource's certificate was changed,
+     is evicted and its pool closed. A client can also be evicted for size while other actions are still using it, so
+     its pool waits for the connections in use to be released, up to the dispose timeout, before closing them.
+    */
+    private static final Cache<HttpClientKey, HttpClient> httpClientCache = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_HTTP_CLIENTS)
+            .expireAfterAccess(CONNECTION_MAX_IDLE_TIME)
+            .removalListener((HttpClientKey key, HttpClient httpClient, RemovalCause cause) -> {
+                if (httpClient != null) {
+                    httpClient
+                            .configuration()
+                            .connectionProvider()
+                            .disposeLater()
+                            .subscribe();
+                }
+            })
+            .build();
+
+    private int maxConnections = 500;
+    private int maxPendingAcquires = 1000;
+
+    public RestAPIActivateUtils(SharedConfig sharedConfig) {
+        this.maxConnections = sharedConfig.getRestApiMaxConnections();
+        this.maxPendingAcquires = sharedConfig.getRestApiMaxPendingAcquires();
+    }
+
     public Mono<ActionExecutionResult> triggerApiCall(
             WebClient client,
             HttpMethod httpMethod,
@@ -292,16 +331,50 @@ public class RestAPIActivateUtils {
     }
 
     protected HttpClient getHttpClient(DatasourceConfiguration datasourceConfiguration) {
-        // Initializing webClient to be used for http call
-        final ConnectionProvider provider = ConnectionProvider.builder("rest-api-provider")
-                .maxIdleTime(Duration.ofSeconds(600))
-                .maxLifeTime(Duration.ofSeconds(600))
-                .build();
+        return httpClientCache.get(getHttpClientKey(datasourceConfiguration), key -> {
+            // Initializing webClient to be used for http call
+            // Named after the kind of TLS settings only, so that the pool metrics don't get a new name for every
+            // client. Reactor Netty removes the metrics of a pool when it is disposed.
+            final ConnectionProvider provider = ConnectionProvider.builder(getConnectionProviderName(key))
+                    .maxConnections(key.maxConnections())
+                    .pendingAcquireMaxCount(key.maxPendingAcquires())
+                    .maxIdleTime(CONNECTION_MAX_IDLE_TIME)
+                    .maxLifeTime(CONNECTION_MAX_IDLE_TIME)
+                    .evictInBackground(Duration.ofSeconds(60))
+                    .disposeTimeout(CONNECTION_PROVIDER_DISPOSE_TIMEOUT)
+                    .metrics(true)
+                    .build();
+
+            return HttpClient.create(provider)
+                    .secure(SSLHelper.sslCheckForHttpClient(datasourceConfiguration))
+                    .compress(true);
+        });
+    }
 
-        HttpClient httpClient = HttpClient.create(provider)
-                .secure(SSLHelper.sslCheckForHttpClient(datasourceConfiguration))
-                .compress(true);
+    private static String getConnectionProviderName(HttpClientKey key) {
+        return "rest-api-provider-"
+                + (key.authType() == null ? "default" : key.authType().name().toLowerCase());
+    }
 
-        return httpClient;
+    /**
+     * The parts of the datasource configuration that the HTTP client depends on, i.e. the TLS settings, along with the
+     * pool limits.
+     */
+    private HttpClientKey getHttpClientKey(DatasourceConfiguration datasourceConfiguration) {
+        SSLDetails.AuthType authType = null;
+        String certificate = null;
+        if (datasourceConfiguration.getConnection() != null
+                && datasourceConfiguration.getConnection().getSsl() != null) {
+            SSLDetails sslDetails = datasourceConfiguration.getConnection().getSsl();
+            authType = sslDetails.getAuthType();
+            if (authType == SSLDetails.AuthType.SELF_SIGNED_CERTIFICATE && sslDetails.getCertificateFile() != null) {
+                certificate = sslDetails.getCertificateFile().getBase64Content();
+            }
+        }
+
+        return new HttpClientKey(authType, certificate, maxConnections, maxPendingAcquires);
     }
+
+    private record HttpClientKey(
+            SSLDetails.AuthType authType, String certificate, int maxConnections, int maxPendingAcquires) {}
 }
@@ -15,12 +15,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.bson.types.ObjectId;
 import org.h2.jdbc.JdbcSQLSyntaxErrorException;
+import org.h2.jdbcx.JdbcConnectionPool;
 import org.springframework.util.CollectionUtils;
 
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
@@ -51,9 +51,15 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
     public static final String PAGINATE_OFFSET_KEY = "offset";
 
     private final ObjectMapper objectMapper;
-    private Connection connection;
 
-    private static final String URL = "jdbc:h2:mem:filterDb;DATABASE_TO_UPPER=FALSE";
+    /*
+     Every filter request works on its own table, so requests can run in parallel on separate connections to the same
+     in memory database. The database is kept alive even when no connection is open, so that the pool can close idle
+     connections without losing it.
+    */
+    private final JdbcConnectionPool connectionPool;
+
+    private static final String URL = "jdbc:h2:mem:filterDb;DATABASE_TO_UPPER=FALSE;DB_CLOSE_DELAY=-1";
 
     private static final Map<DataType, String> SQL_DATATYPE_MAP = Map.of(
             DataType.INTEGER, "INT",
@@ -99,8 +105,12 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
 
         objectMapper = new ObjectMapper();
 
-        try {
-            connection = DriverManager.getConnection(URL);
+        connectionPool = JdbcConnectionPool.create(URL, "", "");
+        connectionPool.setMaxConnections(Runtime.getRuntime().availableProcessors() * 2);
+
+        // Fail fast if the in memory database can't be reached
+        try (Connection connection = connectionPool.getConnection()) {
+            log.debug("Connected to the in memory filtering database");
         } catch (SQLException e) {
             log.error(e.getMessage());
             throw new AppsmithPluginException(
@@ -133,17 +143,27 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
         }
 
         Map<String, DataType> schema = generateSchema(items, dataTypeConversionMap);
-        String tableName = generateTable(schema);
 
-        // insert the data
-        insertAllData(tableName, items, schema, dataTypeConversionMap);
+        List<Map<String, Object>> finalResults;
+        try (Connection conn = getConnection()) {
+            String tableName = generateTable(conn, schema);
 
-        // Filter the data
-        List<Map<String, Object>> finalResults =
-                executeFilterQueryNew(tableName, schema, uqiDataFilterParams, dataTypeConversionMap);
+            try {
+                // insert the data
+                insertAllData(conn, tableName, items, schema, dataTypeConversionMap);
 
-        // Now that the data has been filtered. Clean Up. Drop the table
-        dropTable(tableName);
+                // Filter the data
+                finalResults = executeFilterQueryNew(conn, tableName, schema, uqiDataFilterParams);
+            } finally {
+                // Now that the data has been filtered, or filtering failed. Clean Up. Drop the table
+                dropTable(conn, tableName);
+            }
+        } catch (SQLException e) {
+            log.error(e.getMessage());
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                    "Failed to release the connection to the filtering database : " + e.getMessage());
+        }
 
         ArrayNode finalResultsNode = objectMapper.valueToTree(finalResults);
 
@@ -151,18 +171,13 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
     }
 
     private List<Map<String, Object>> executeFilterQueryNew(
-            String tableName,
-            Map<String, DataType> schema,
-            UQIDataFilterParams uqiDataFilterParams,
-            Map<DataType, DataType> dataTypeConversionMap) {
+            Connection conn, String tableName, Map<String, DataType> schema, UQIDataFilterParams uqiDataFilterParams) {
 
         Condition condition = uqiDataFilterParams.getCondition();
         List<String> projectionColumns = uqiDataFilterParams.getProjectionColumns();
         List<Map<String, String>> sortBy = uqiDataFilterParams.getSortBy();
         Map<String, String> paginateBy = uqiDataFilterParams.getPaginateBy();
 
-        Connection conn = checkAndGetConnection();
-
         StringBuilder sb = new StringBuilder();
 
         // Add projection columns condition otherwise use `select *`
@@ -369,6 +384,20 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
             Map<String, DataType> schema,
             Map<DataType, DataType> dataTypeConversionMap) {
 
+        try (Connection conn = getConnection()) {
+            insertAllData(conn, tableName, items, schema, dataTypeConversionMap);
+        } catch (SQLException e) {
+            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR, e.getMessage());
+        }
+    }
+
+    private void insertAllData(
+            Connection conn,
+            String tableName,
+            ArrayNode items,
+            Map<String, DataType> schema,
+            Map<DataType, DataType> dataTypeConversionMap) {
+
         List<String> columnNames = schema.keySet().stream().collect(Collectors.toList());
 
         List<String> quotedColumnNames =
@@ -402,6 +431,7 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
             if (counter == 1000) {
 
                 insertReadyData(
+                        conn,
                         insertQueryBuilder.toString(),
                         valuesMasterBuilder,
                         inOrderValues,
@@ -450,6 +480,7 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
 
         if (valuesMasterBuilder.length() > 0) {
             insertReadyData(
+                    conn,
                     insertQueryBuilder.toString(),
                     valuesMasterBuilder,
                     inOrderValues,
@@ -458,9 +489,8 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
         }
     }
 
-    private void executeDbQuery(String query) {
+    private void executeDbQuery(Connection conn, String query) {
 
-        Connection conn = checkAndGetConnection();
         log.debug("{} : Executing Query on H2 : {}", Thread.currentThread().getName(), query);
 
         try (Statement statement = conn.createStatement()) {
@@ -473,14 +503,13 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
     }
 
     private void insertReadyData(
+            Connection conn,
             String partialInsertQuery,
             StringBuilder valuesBuilder,
             List<String> inOrderValues,
             List<DataType> columnTypes,
             Map<DataType, DataType> dataTypeConversionMap) {
 
-        Connection conn = checkAndGetConnection();
-
         StringBuilder insertQueryBuilder = new StringBuilder(partialInsertQuery);
         insertQueryBuilder.append(valuesBuilder);
         insertQueryBuilder.append(";");
@@ -513,21 +542,25 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
         }
     }
 
-    private Connection checkAndGetConnection() {
+    private Connection getConnection() {
         try {
-            if (connection == null || connection.isClosed() || !connection.isValid(5)) {
-                connection = DriverManager.getConnection(URL);
-            }
+            return connectionPool.getConnection();
         } catch (SQLException e) {
             throw new AppsmithPluginException(
                     AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
                     "Failed to connect to the filtering database");
         }
-
-        return connection;
     }
 
     public String generateTable(Map<String, DataType> schema) {
+        try (Connection conn = getConnection()) {
+            return generateTable(conn, schema);
+        } catch (SQLException e) {
+            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR, e.getMessage());
+        }
+    }
+
+    private String generateTable(Connection conn, Map<String, DataType> schema) {
 
         // Generate table name
         String generateUniqueId = new ObjectId().toString().toUpperCase();
@@ -569,16 +602,24 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
 
         String createTableQuery = sb.toString();
 
-        executeDbQuery(createTableQuery);
+        executeDbQuery(conn, createTableQuery);
 
         return tableName;
     }
 
     public void dropTable(String tableName) {
+        try (Connection conn = getConnection()) {
+            dropTable(conn, tableName);
+        } catch (SQLException e) {
+            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR, e.getMessage());
+        }
+    }
+
+    private void dropTable(Connection conn, String tableName) {
 
         String dropTableQuery = "DROP TABLE " + tableName + ";";
 
-        executeDbQuery(dropTableQuery);
+        executeDbQuery(conn, dropTableQuery);
     }
 
     /**
@@ -7,4 +7,8 @@ public interface SharedConfigCE {
     int getMaxResponseSize();
 
     String getRemoteExecutionUrl();
+
+    int getRestApiMaxConnections();
+
+    int getRestApiMaxPendingAcquires();
 }
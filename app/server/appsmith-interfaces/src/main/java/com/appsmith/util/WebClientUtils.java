@@ -1,12 +1,18 @@
 package com.appsmith.util;
 
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioDatagramChannel;
 import io.netty.resolver.AddressResolver;
 import io.netty.resolver.AddressResolverGroup;
 import io.netty.resolver.InetNameResolver;
 import io.netty.resolver.InetSocketAddressResolver;
+import io.netty.resolver.dns.DefaultDnsCache;
+import io.netty.resolver.dns.DnsNameResolver;
+import io.netty.resolver.dns.DnsNameResolverBuilder;
+import io.netty.util.concurrent.DefaultThreadFactory;
 import io.netty.util.concurrent.EventExecutor;
 import io.netty.util.concurrent.Promise;
-import io.netty.util.internal.SocketUtils;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
@@ -18,9 +24,9 @@ import reactor.netty.resources.ConnectionProvider;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.UnknownHostException;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Supplier;
 
 @Slf4j
 public class WebClientUtils {
@@ -67,25 +73,44 @@ public class WebClientUtils {
     }
 
     public static WebClient.Builder builder(HttpClient httpClient) {
+        return builder(httpClient, ResolverGroup.INSTANCE);
+    }
+
+    /**
+     * Builds a client that looks host names up with the given DNS resolver, instead of the shared one. The resolved
+     * addresses are still checked against the disallowed hosts.
+     */
+    static WebClient.Builder builder(HttpClient httpClient, InetNameResolver dnsResolver) {
+        return builder(httpClient, new ResolverGroup(() -> dnsResolver));
+    }
+
+    private static WebClient.Builder builder(HttpClient httpClient, ResolverGroup resolverGroup) {
         return WebClient.builder()
                 .filter(IP_CHECK_FILTER)
-                .clientConnector(new ReactorClientHttpConnector(makeSafeHttpClient(httpClient)));
+                .clientConnector(new ReactorClientHttpConnector(makeSafeHttpClient(httpClient, resolverGroup)));
     }
 
-    private static HttpClient makeSafeHttpClient(HttpClient httpClient) {
+    private static HttpClient makeSafeHttpClient(HttpClient httpClient, ResolverGroup resolverGroup) {
         if (shouldUseSystemProxy()) {
             httpClient = httpClient.proxyWithSystemProperties();
         }
 
-        return httpClient.resolver(ResolverGroup.INSTANCE);
+        return httpClient.resolver(resolverGroup);
     }
 
     private static class ResolverGroup extends AddressResolverGroup<InetSocketAddress> {
-        public static final ResolverGroup INSTANCE = new ResolverGroup();
+        public static final ResolverGroup INSTANCE = new ResolverGroup(() -> DnsResolverHolder.INSTANCE);
+
+        // Supplied lazily, so that the shared resolver is only created when the first host is resolved
+        private final Supplier<InetNameResolver> dnsResolver;
+
+        ResolverGroup(Supplier<InetNameResolver> dnsResolver) {
+            this.dnsResolver = dnsResolver;
+        }
 
         @Override
         protected AddressResolver<InetSocketAddress> newResolver(EventExecutor executor) {
-            return new InetSocketAddressResolver(executor, new NameResolver(executor));
+            return new InetSocketAddressResolver(executor, new NameResolver(executor, dnsResolver.get()));
         }
     }
 
@@ -100,10 +125,28 @@ public class WebClientUtils {
         return false;
     }
 
+    /**
+     * A single DNS resolver for all clients. It sends queries without blocking, from its own event loop, so a slow DNS
+     * server never stalls the event loops that serve requests. Answers are cached for as long as their TTL allows.
+     * The resolver is only created when the first client resolves a host.
+     */
+    private static class DnsResolverHolder {
+        private static final EventLoopGroup EVENT_LOOP_GROUP =
+                new NioEventLoopGroup(1, new DefaultThreadFactory("appsmith-dns", true));
+
+        private static final DnsNameResolver INSTANCE = new DnsNameResolverBuilder(EVENT_LOOP_GROUP.next())
+                .channelType(NioDatagramChannel.class)
+                .resolveCache(new DefaultDnsCache())
+                .build();
+    }
+
     private static class NameResolver extends InetNameResolver {
 
-        public NameResolver(EventExecutor executor) {
+        private final InetNameResolver dnsResolver;
+
+        public NameResolver(EventExecutor executor, InetNameResolver dnsResolver) {
             super(executor);
+            this.dnsResolver = dnsResolver;
         }
 
         @Override
@@ -112,19 +155,19 @@ public class WebClientUtils {
                 return;
             }
 
-            final InetAddress address;
-            try {
-                address = SocketUtils.addressByName(inetHost);
-            } catch (UnknownHostException e) {
-                promise.setFailure(e);
-                return;
-            }
+            dnsResolver.resolve(inetHost).addListener(future -> {
+                if (!future.isSuccess()) {
+                    promise.tryFailure(future.cause());
+                    return;
+                }
 
-            if (isDisallowedAndFail(address.getHostAddress(), promise)) {
-                return;
-            }
+                final InetAddress address = (InetAddress) future.getNow();
+                if (isDisallowedAndFail(address.getHostAddress(), promise)) {
+                    return;
+                }
 
-            promise.setSuccess(address);
+                promise.trySuccess(address);
+            });
         }
 
         @Override
@@ -133,22 +176,24 @@ public class WebClientUtils {
                 return;
             }
 
-            final List<InetAddress> addresses;
-            try {
-                addresses = Arrays.asList(SocketUtils.allAddressesByName(inetHost));
-            } catch (UnknownHostException e) {
-                promise.setFailure(e);
-                return;
-            }
-
-            // Even if _one_ of the addresses is disallowed, we fail the request.
-            for (InetAddress address : addresses) {
-                if (isDisallowedAndFail(address.getHostAddress(), promise)) {
+            dnsResolver.resolveAll(inetHost).addListener(future -> {
+                if (!future.isSuccess()) {
+                    promise.tryFailure(future.cause());
                     return;
                 }
-            }
 
-            promise.setSuccess(addresses);
+                @SuppressWarnings("unchecked")
+                final List<InetAddress> addresses = (List<InetAddress>) future.getNow();
+
+                // Even if _one_ of the addresses is disallowed, we fail the request.
+                for (InetAddress address : addresses) {
+                    if (isDisallowedAndFail(address.getHostAddress(), promise)) {
+                        return;
+                    }
+                }
+
+                promise.trySuccess(addresses);
+            });
         }
     }
 }
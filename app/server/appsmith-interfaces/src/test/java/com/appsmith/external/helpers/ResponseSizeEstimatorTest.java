@@ -0,0 +1,55 @@
+package com.appsmith.external.helpers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ResponseSizeEstimatorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void testAddRow_withMixedValues_staysCloseToSerializedJsonSize() throws Exception {
+        ResponseSizeEstimator responseSizeEstimator = new ResponseSizeEstimator();
+        List<Map<String, Object>> rows = new ArrayList<>();
+
+        for (int i = 0; i < 1000; i++) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("id", i);
+            row.put("name", "user" + i);
+            row.put("score", i / 3.0);
+            row.put("isActive", i % 2 == 0);
+            row.put("tags", new String[] {"a", "b"});
+            row.put("details", objectMapper.readTree("{\"city\": \"Bengaluru\"}"));
+            row.put("deletedAt", null);
+            rows.add(row);
+            responseSizeEstimator.addRow(row);
+        }
+
+        long serializedSize = objectMapper.writeValueAsString(rows).length();
+        assertThat(responseSizeEstimator.getSize()).isBetween(serializedSize * 9 / 10, serializedSize * 11 / 10);
+    }
+
+    @Test
+    public void testIsLargerThan_growsWithEveryRow() {
+        ResponseSizeEstimator responseSizeEstimator = new ResponseSizeEstimator();
+        responseSizeEstimator.addRow(Map.of("value", "x".repeat(100)));
+        assertFalse(responseSizeEstimator.isLargerThan(200));
+
+        responseSizeEstimator.addRow(Map.of("value", "x".repeat(100)));
+        assertTrue(responseSizeEstimator.isLargerThan(200));
+    }
+
+    @Test
+    public void testEstimate_withBinaryValue_countsBase64Length() {
+        assertThat(ResponseSizeEstimator.estimate(new byte[300])).isEqualTo(402);
+    }
+}
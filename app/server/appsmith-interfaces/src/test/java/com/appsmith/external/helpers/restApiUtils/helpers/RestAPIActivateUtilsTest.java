@@ -0,0 +1,80 @@
+package com.appsmith.external.helpers.restApiUtils.helpers;
+
+import com.appsmith.external.models.Connection;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.SSLDetails;
+import com.appsmith.external.models.UploadedFile;
+import org.junit.jupiter.api.Test;
+import reactor.netty.http.client.HttpClient;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class RestAPIActivateUtilsTest {
+
+    private final RestAPIActivateUtils restAPIActivateUtils = new RestAPIActivateUtils();
+
+    @Test
+    public void testGetHttpClient_withSameTlsSettings_reusesClient() {
+        DatasourceConfiguration firstDatasourceConfiguration = new DatasourceConfiguration();
+        firstDatasourceConfiguration.setUrl("https://one.example.com");
+        DatasourceConfiguration secondDatasourceConfiguration = new DatasourceConfiguration();
+        secondDatasourceConfiguration.setUrl("https://two.example.com");
+
+        HttpClient firstHttpClient = restAPIActivateUtils.getHttpClient(firstDatasourceConfiguration);
+        HttpClient secondHttpClient = restAPIActivateUtils.getHttpClient(secondDatasourceConfiguration);
+
+        assertSame(firstHttpClient, secondHttpClient);
+    }
+
+    @Test
+    public void testGetHttpClient_withSelfSignedCertificate_usesSeparateClientPerCertificate() {
+        DatasourceConfiguration defaultDatasourceConfiguration = new DatasourceConfiguration();
+
+        HttpClient defaultHttpClient = restAPIActivateUtils.getHttpClient(defaultDatasourceConfiguration);
+        HttpClient firstCertificateHttpClient =
+                restAPIActivateUtils.getHttpClient(getSelfSignedDatasourceConfiguration("first"));
+        HttpClient secondCertificateHttpClient =
+                restAPIActivateUtils.getHttpClient(getSelfSignedDatasourceConfiguration("second"));
+
+        assertNotSame(defaultHttpClient, firstCertificateHttpClient);
+        assertNotSame(firstCertificateHttpClient, secondCertificateHttpClient);
+        assertSame(
+                firstCertificateHttpClient,
+                restAPIActivateUtils.getHttpClient(getSelfSignedDatasourceConfiguration("first")));
+    }
+
+    @Test
+    public void testGetHttpClient_withSelfSignedCertificates_namesPoolsAfterTlsSettingsOnly() {
+        HttpClient firstCertificateHttpClient =
+                restAPIActivateUtils.getHttpClient(getSelfSignedDatasourceConfiguration("first name"));
+        HttpClient secondCertificateHttpClient =
+                restAPIActivateUtils.getHttpClient(getSelfSignedDatasourceConfiguration("second name"));
+
+        assertNotSame(firstCertificateHttpClient, secondCertificateHttpClient);
+        assertEquals(
+                "rest-api-provider-self_signed_certificate",
+                firstCertificateHttpClient.configuration().connectionProvider().name());
+        assertEquals(
+                firstCertificateHttpClient.configuration().connectionProvider().name(),
+                secondCertificateHttpClient.configuration().connectionProvider().name());
+    }
+
+    private static DatasourceConfiguration getSelfSignedDatasourceConfiguration(String certificate) {
+        SSLDetails sslDetails = new SSLDetails();
+        sslDetails.setAuthType(SSLDetails.AuthType.SELF_SIGNED_CERTIFICATE);
+        sslDetails.setCertificateFile(new UploadedFile(
+                "certificate.pem", Base64.getEncoder().encodeToString(certificate.getBytes(StandardCharsets.UTF_8))));
+
+        Connection connection = new Connection();
+        connection.setSsl(sslDetails);
+
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setConnection(connection);
+        return datasourceConfiguration;
+    }
+}
@@ -0,0 +1,103 @@
+package com.appsmith.external.services;
+
+import com.appsmith.external.models.Condition;
+import com.appsmith.external.models.UQIDataFilterParams;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.appsmith.external.helpers.PluginUtils.parseWhereClause;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_LIMIT_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_OFFSET_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_COLUMN_NAME_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_TYPE_KEY;
+
+/**
+ * Measures UQI in memory filtering of 10k and 100k row datasets, from one thread and from several threads at once.
+ * Run it with the `main` method, after compiling the test classes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class FilterDataServiceBenchmark {
+
+    private static final List<String> STATUSES = List.of("READY", "PENDING", "DELIVERED", "CANCELLED");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final FilterDataService filterDataService = FilterDataService.getInstance();
+
+    @Param({"10000", "100000"})
+    private int rowCount;
+
+    private ArrayNode items;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        items = objectMapper.createArrayNode();
+        for (int i = 0; i < rowCount; i++) {
+            ObjectNode item = items.addObject();
+            item.put("id", i);
+            item.put("email", "user" + i + "@appsmith.com");
+            item.put("orderAmount", (i * 7919 % 10000) / 100.0);
+            item.put("orderStatus", STATUSES.get(i % STATUSES.size()));
+        }
+    }
+
+    @Benchmark
+    public ArrayNode filterSortAndPaginate() {
+        return filterDataService.filterDataNew(items, getFilterParams());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public ArrayNode filterSortAndPaginateConcurrently() {
+        return filterDataService.filterDataNew(items, getFilterParams());
+    }
+
+    private static UQIDataFilterParams getFilterParams() {
+        Condition condition = parseWhereClause(Map.of(
+                "condition",
+                "AND",
+                "children",
+                List.of(
+                        Map.of("key", "orderAmount", "condition", "GT", "value", "25"),
+                        Map.of("key", "orderStatus", "condition", "IN", "value", "[\"READY\", \"PENDING\"]"))));
+
+        return new UQIDataFilterParams(
+                condition,
+                List.of("id", "email", "orderAmount"),
+                List.of(Map.of(SORT_BY_COLUMN_NAME_KEY, "orderAmount", SORT_BY_TYPE_KEY, "DESCENDING")),
+                Map.of(PAGINATE_LIMIT_KEY, "100", PAGINATE_OFFSET_KEY, "0"));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(FilterDataServiceBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
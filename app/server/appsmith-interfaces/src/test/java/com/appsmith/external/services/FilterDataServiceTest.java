@@ -5,8 +5,10 @@ import com.appsmith.external.constants.DataType;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.models.Condition;
 import com.appsmith.external.models.UQIDataFilterParams;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
@@ -16,6 +18,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static com.appsmith.external.helpers.PluginUtils.parseWhereClause;
@@ -1336,4 +1339,37 @@ public class FilterDataServiceTest {
             fail(e.getMessage());
         }
     }
+
+    @Test
+    public void testConcurrentFiltersReturnIndependentResults() {
+        int requestCount = 32;
+
+        List<ArrayNode> filteredDataList = IntStream.range(0, requestCount)
+                .parallel()
+                .mapToObj(requestIndex -> {
+                    ArrayNode items = objectMapper.createArrayNode();
+                    for (int i = 0; i < 1000; i++) {
+                        ObjectNode item = items.addObject();
+                        item.put("id", i);
+                        item.put("requestIndex", requestIndex);
+                    }
+
+                    Condition condition = parseWhereClause(Map.of(
+                            "condition",
+                            "AND",
+                            "children",
+                            List.of(Map.of("key", "id", "condition", "LT", "value", String.valueOf(requestIndex)))));
+
+                    return filterDataService.filterDataNew(items, new UQIDataFilterParams(condition, null, null, null));
+                })
+                .collect(Collectors.toList());
+
+        for (int requestIndex = 0; requestIndex < requestCount; requestIndex++) {
+            ArrayNode filteredData = filteredDataList.get(requestIndex);
+            assertEquals(requestIndex, filteredData.size());
+            for (JsonNode row : filteredData) {
+                assertEquals(requestIndex, row.get("requestIndex").asInt());
+            }
+        }
+    }
 }
@@ -0,0 +1,99 @@
+package com.appsmith.util;
+
+import io.netty.resolver.InetNameResolver;
+import io.netty.util.concurrent.ImmediateEventExecutor;
+import io.netty.util.concurrent.Promise;
+import mockwebserver3.MockResponse;
+import mockwebserver3.MockWebServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+
+public class WebClientUtilsTest {
+
+    private static final byte[] METADATA_ADDRESS = {(byte) 169, (byte) 254, (byte) 169, (byte) 254};
+
+    private static MockWebServer mockEndpoint;
+
+    @BeforeAll
+    public static void setUp() throws IOException {
+        mockEndpoint = new MockWebServer();
+        mockEndpoint.start();
+    }
+
+    @AfterAll
+    public static void tearDown() throws IOException {
+        mockEndpoint.shutdown();
+    }
+
+    @Test
+    public void testRequestsToResolvedHost_whileResolvingConcurrently_succeed() {
+        int requestCount = 20;
+        for (int i = 0; i < requestCount; i++) {
+            mockEndpoint.enqueue(new MockResponse().setBody("ok"));
+        }
+
+        String url = "http://localhost:" + mockEndpoint.getPort() + "/";
+        Mono<Long> responseCountMono = Flux.range(0, requestCount)
+                .flatMap(i -> WebClientUtils.create().get().uri(url).retrieve().bodyToMono(String.class))
+                .filter("ok"::equals)
+                .count();
+
+        StepVerifier.create(responseCountMono).expectNext((long) requestCount).verifyComplete();
+    }
+
+    @Test
+    public void testRequestToDisallowedHost_fails() {
+        Mono<String> responseMono = WebClientUtils.create()
+                .get()
+                .uri("http://169.254.169.254/latest/meta-data")
+                .retrieve()
+                .bodyToMono(String.class);
+
+        StepVerifier.create(responseMono)
+                .expectErrorMatches(error -> error instanceof UnknownHostException
+                        && WebClientUtils.HOST_NOT_ALLOWED.equals(error.getMessage()))
+                .verify();
+    }
+
+    @Test
+    public void testRequestToHostResolvingToDisallowedAddress_fails() {
+        // Stands in for a DNS server that answers with the cloud metadata address for an innocent looking host name
+        InetNameResolver dnsResolver = new InetNameResolver(ImmediateEventExecutor.INSTANCE) {
+            @Override
+            protected void doResolve(String inetHost, Promise<InetAddress> promise) throws Exception {
+                promise.setSuccess(InetAddress.getByAddress(inetHost, METADATA_ADDRESS));
+            }
+
+            @Override
+            protected void doResolveAll(String inetHost, Promise<List<InetAddress>> promise) throws Exception {
+                promise.setSuccess(List.of(InetAddress.getByAddress(inetHost, METADATA_ADDRESS)));
+            }
+        };
+
+        Mono<String> responseMono = WebClientUtils.builder(HttpClient.create(), dnsResolver)
+                .build()
+                .get()
+                .uri("http://metadata.example.com/latest/meta-data")
+                .retrieve()
+                .bodyToMono(String.class);
+
+        StepVerifier.create(responseMono)
+                // Unlike the IP check filter, the resolver fails while connecting, so the error is wrapped
+                .expectErrorMatches(error -> error instanceof WebClientRequestException
+                        && error.getCause() instanceof UnknownHostException
+                        && WebClientUtils.HOST_NOT_ALLOWED.equals(
+                                error.getCause().getMessage()))
+                .verify();
+    }
+}
@@ -7,14 +7,14 @@ import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.services.s3.model.Bucket;
 import com.amazonaws.services.s3.model.DeleteObjectsRequest;
 import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ListObjectsRequest;
 import com.amazonaws.services.s3.model.ObjectListing;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.S3Object;
-import com.amazonaws.services.s3.model.S3ObjectInputStream;
 import com.amazonaws.services.s3.model.S3ObjectSummary;
 import com.amazonaws.services.s3.transfer.TransferManager;
 import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
-import com.amazonaws.util.IOUtils;
 import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.dtos.MultipartFormDataDTO;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
@@ -43,6 +43,7 @@ import com.external.plugins.constants.AmazonS3Action;
 import com.external.plugins.exceptions.S3ErrorMessages;
 import com.external.plugins.exceptions.S3PluginError;
 import com.external.utils.AmazonS3ErrorUtils;
+import com.external.utils.Latin1StringInputStream;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import lombok.extern.slf4j.Slf4j;
@@ -50,6 +51,7 @@ import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
 import org.pf4j.util.StringUtils;
 import org.springframework.util.CollectionUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
@@ -57,7 +59,12 @@ import reactor.core.scheduler.Schedulers;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
 import java.net.URL;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
@@ -71,6 +78,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.regex.Matcher;
 import java.util.stream.Collectors;
 
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
@@ -82,6 +90,9 @@ import static com.appsmith.external.helpers.PluginUtils.getDataValueSafelyFromFo
 import static com.appsmith.external.helpers.PluginUtils.parseList;
 import static com.appsmith.external.helpers.PluginUtils.parseWhereClause;
 import static com.appsmith.external.helpers.PluginUtils.setDataValueSafelyInFormData;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_LIMIT_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_OFFSET_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_COLUMN_NAME_KEY;
 import static com.external.plugins.constants.FieldName.BODY;
 import static com.external.plugins.constants.FieldName.BUCKET;
 import static com.external.plugins.constants.FieldName.COMMAND;
@@ -89,7 +100,9 @@ import static com.external.plugins.constants.FieldName.CREATE_DATATYPE;
 import static com.external.plugins.constants.FieldName.CREATE_EXPIRY;
 import static com.external.plugins.constants.FieldName.KEY_BUCKET;
 import static com.external.plugins.constants.FieldName.KEY_DATA;
+import static com.external.plugins.constants.FieldName.LIST_CONTINUATION_TOKEN;
 import static com.external.plugins.constants.FieldName.LIST_EXPIRY;
+import static com.external.plugins.constants.FieldName.LIST_PAGE_SIZE;
 import static com.external.plugins.constants.FieldName.LIST_PAGINATE;
 import static com.external.plugins.constants.FieldName.LIST_PREFIX;
 import static com.external.plugins.constants.FieldName.LIST_SIGNED_URL;
@@ -98,16 +111,23 @@ import static com.external.plugins.constants.FieldName.LIST_UNSIGNED_URL;
 import static com.external.plugins.constants.FieldName.LIST_WHERE;
 import static com.external.plugins.constants.FieldName.PATH;
 import static com.external.plugins.constants.FieldName.READ_DATATYPE;
+import static com.external.plugins.constants.FieldName.READ_RANGE;
 import static com.external.plugins.constants.FieldName.SMART_SUBSTITUTION;
 import static com.external.plugins.constants.S3PluginConstants.ACCESS_DENIED_ERROR_CODE;
 import static com.external.plugins.constants.S3PluginConstants.AWS_S3_SERVICE_PROVIDER;
 import static com.external.plugins.constants.S3PluginConstants.BASE64_DELIMITER;
+import static com.external.plugins.constants.S3PluginConstants.BYTE_RANGE_PATTERN;
 import static com.external.plugins.constants.S3PluginConstants.CUSTOM_ENDPOINT_INDEX;
 import static com.external.plugins.constants.S3PluginConstants.DEFAULT_FILE_NAME;
 import static com.external.plugins.constants.S3PluginConstants.DEFAULT_URL_EXPIRY_IN_MINUTES;
+import static com.external.plugins.constants.S3PluginConstants.MAX_INITIAL_CAPACITY;
+import static com.external.plugins.constants.S3PluginConstants.MAX_KEYS_PER_LIST_REQUEST;
+import static com.external.plugins.constants.S3PluginConstants.NEXT_CONTINUATION_TOKEN;
 import static com.external.plugins.constants.S3PluginConstants.NO;
+import static com.external.plugins.constants.S3PluginConstants.READ_CHUNK_SIZE;
 import static com.external.plugins.constants.S3PluginConstants.S3_DRIVER;
 import static com.external.plugins.constants.S3PluginConstants.S3_SERVICE_PROVIDER_PROPERTY_INDEX;
+import static com.external.plugins.constants.S3PluginConstants.SIGNED_URL_BATCH_SIZE;
 import static com.external.plugins.constants.S3PluginConstants.YES;
 import static com.external.utils.DatasourceUtils.getS3ClientBuilder;
 import static com.external.utils.TemplateUtils.getTemplates;
@@ -159,9 +179,15 @@ public class AmazonS3Plugin extends BasePlugin {
         }
 
         /*
+         * - Lists the files under the prefix in the order of their keys, starting after the `startAfter` key when it
+         *   is given.
+         * - Stops once `maxFiles` files have been listed, instead of going through the whole prefix. If more files
+         *   are left, the key of the last file listed is returned as the token to continue from. A null `maxFiles`
+         *   lists all the files.
          * - Exception thrown by this method is expected to be handled by the caller.
          */
-        ArrayList<String> listAllFilesInBucket(AmazonS3 connection, String bucketName, String prefix)
+        FileListing listFilesInBucket(
+                AmazonS3 connection, String bucketName, String prefix, String startAfter, Integer maxFiles)
                 throws AppsmithPluginException {
             if (connection == null) {
                 throw new AppsmithPluginException(
@@ -186,20 +212,54 @@ public class AmazonS3Plugin extends BasePlugin {
                         AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR, S3ErrorMessages.EMPTY_PREFIX_ERROR_MSG);
             }
 
-            ObjectListing result = connection.listObjects(bucketName, prefix);
-            ArrayList<String> fileList = new ArrayList<>(getFilenamesFromObjectListing(result));
+            ListObjectsRequest listObjectsRequest = new ListObjectsRequest()
+                    .withBucketName(bucketName)
+                    .withPrefix(prefix)
+                    .withMarker(StringUtils.isNullOrEmpty(startAfter) ? null : startAfter);
+            if (maxFiles != null) {
+                listObjectsRequest.setMaxKeys(Math.min(maxFiles, MAX_KEYS_PER_LIST_REQUEST));
+            }
+
+            ObjectListing result = connection.listObjects(listObjectsRequest);
+            List<String> fileList = new ArrayList<>(getFilenamesFromObjectListing(result));
 
-            while (result.isTruncated()) {
+            while (result.isTruncated() && (maxFiles == null || fileList.size() < maxFiles)) {
                 result = connection.listNextBatchOfObjects(result);
                 fileList.addAll(getFilenamesFromObjectListing(result));
             }
 
-            return fileList;
+            if (maxFiles == null || (fileList.size() <= maxFiles && !result.isTruncated())) {
+                return new FileListing(fileList, null);
+            }
+
+            fileList = fileList.subList(0, Math.min(maxFiles, fileList.size()));
+            return new FileListing(fileList, fileList.isEmpty() ? null : fileList.get(fileList.size() - 1));
+        }
+
+        /*
+         * - Signing a URL doesn't need a call to S3, but it is CPU bound, so long lists of files are signed in
+         *   batches that run in parallel.
+         * - The URLs are returned in the order of the files.
+         */
+        List<String> getSignedUrls(
+                AmazonS3 connection, String bucketName, List<String> listOfFiles, Date expiryDateTime) {
+            if (listOfFiles.size() <= SIGNED_URL_BATCH_SIZE) {
+                return getSignedUrlsOfBatch(connection, bucketName, listOfFiles, expiryDateTime);
+            }
+
+            return Flux.fromIterable(listOfFiles)
+                    .buffer(SIGNED_URL_BATCH_SIZE)
+                    .flatMapSequential(batch -> Mono.fromCallable(
+                                    () -> getSignedUrlsOfBatch(connection, bucketName, batch, expiryDateTime))
+                            .subscribeOn(Schedulers.parallel()))
+                    .flatMapIterable(urls -> urls)
+                    .collectList()
+                    .block();
         }
 
-        ArrayList<String> getSignedUrls(
-                AmazonS3 connection, String bucketName, ArrayList<String> listOfFiles, Date expiryDateTime) {
-            ArrayList<String> urlList = new ArrayList<>();
+        private List<String> getSignedUrlsOfBatch(
+                AmazonS3 connection, String bucketName, List<String> listOfFiles, Date expiryDateTime) {
+            List<String> urlList = new ArrayList<>(listOfFiles.size());
 
             for (String filePath : listOfFiles) {
                 GeneratePresignedUrlRequest generatePresignedUrlRequest = new GeneratePresignedUrlRequest(
@@ -227,7 +287,6 @@ public class AmazonS3Plugin extends BasePlugin {
                 Date expiryDateTime)
                 throws InterruptedException, AppsmithPluginException {
 
-            byte[] payload;
             MultipartFormDataDTO multipartFormDataDTO;
             try {
                 multipartFormDataDTO = objectMapper.readValue(body, MultipartFormDataDTO.class);
@@ -242,36 +301,12 @@ public class AmazonS3Plugin extends BasePlugin {
                         AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
                         S3ErrorMessages.UNPARSABLE_CONTENT_ERROR_MSG);
             }
-            if (Boolean.TRUE.equals(usingFilePicker)) {
-
-                String encodedPayload = getEncodedPayloadFromMultipartDTO(multipartFormDataDTO);
-
-                /*
-                 * - For files uploaded using Filepicker.xyz.base64, body format is "<content-type>;base64,<actual-
-                 *   base64-encoded-payload>".
-                 * - Strip off the redundant part in the beginning to get actual payload.
-                 */
-                if (encodedPayload.contains(BASE64_DELIMITER)) {
-                    List<String> bodyArrayList = Arrays.asList(encodedPayload.split(BASE64_DELIMITER));
-                    encodedPayload = bodyArrayList.get(bodyArrayList.size() - 1);
-                }
-
-                try {
-                    payload = Base64.getDecoder().decode(encodedPayload);
-                } catch (IllegalArgumentException e) {
-                    throw new AppsmithPluginException(
-                            AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
-                            S3ErrorMessages.UNEXPECTED_ENCODING_IN_FILE_CONTENT_ERROR_MSG);
-                }
-            } else {
-                payload =
-                        getEncodedPayloadFromMultipartDTO(multipartFormDataDTO).getBytes();
-            }
-
-            uploadFileInS3(payload, connection, multipartFormDataDTO, bucketName, path);
+            FilePayload payload = getFilePayload(multipartFormDataDTO, usingFilePicker);
+            uploadFileInS3(
+                    payload.content(), payload.contentLength(), connection, multipartFormDataDTO, bucketName, path);
             ArrayList<String> listOfFiles = new ArrayList<>();
             listOfFiles.add(path);
-            ArrayList<String> listOfUrls = getSignedUrls(connection, bucketName, listOfFiles, expiryDateTime);
+            List<String> listOfUrls = getSignedUrls(connection, bucketName, listOfFiles, expiryDateTime);
             if (listOfUrls.size() != 1) {
                 throw new AppsmithPluginException(
                         S3PluginError.AMAZON_S3_QUERY_EXECUTION_FAILED, S3ErrorMessages.SIGNED_URL_FETCHING_ERROR_MSG);
@@ -307,35 +342,16 @@ public class AmazonS3Plugin extends BasePlugin {
             ArrayList<String> listOfFiles = new ArrayList<>();
             multipartFormDataDTOs.forEach(multipartFormDataDTO -> {
                 final String filePath = path + multipartFormDataDTO.getName();
-                byte[] payload;
-                if (Boolean.TRUE.equals(usingFilePicker)) {
-
-                    String encodedPayload = getEncodedPayloadFromMultipartDTO(multipartFormDataDTO);
-                    /*
-                     * - For files uploaded using Filepicker.xyz.base64, body format is "<content-type>;base64,<actual-
-                     *   base64-encoded-payload>".
-                     * - Strip off the redundant part in the beginning to get actual payload.
-                     */
-                    if (encodedPayload.contains(BASE64_DELIMITER)) {
-                        List<String> bodyArrayList = Arrays.asList(encodedPayload.split(BASE64_DELIMITER));
-                        encodedPayload = bodyArrayList.get(bodyArrayList.size() - 1);
-                    }
-
-                    try {
-                        payload = Base64.getDecoder().decode(encodedPayload);
-                    } catch (IllegalArgumentException e) {
-                        throw new AppsmithPluginException(
-                                AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
-                                S3ErrorMessages.UNEXPECTED_ENCODING_IN_FILE_CONTENT_ERROR_MSG,
-                                e.getMessage());
-                    }
-                } else {
-                    payload = getEncodedPayloadFromMultipartDTO(multipartFormDataDTO)
-                            .getBytes();
-                }
+                FilePayload payload = getFilePayload(multipartFormDataDTO, usingFilePicker);
 
                 try {
-                    uploadFileInS3(payload, connection, multipartFormDataDTO, bucketName, filePath);
+                    uploadFileInS3(
+                            payload.content(),
+                            payload.contentLength(),
+                            connection,
+                            multipartFormDataDTO,
+                            bucketName,
+                            filePath);
                 } catch (InterruptedException e) {
                     throw new AppsmithPluginException(
                             S3PluginError.AMAZON_S3_QUERY_EXECUTION_FAILED,
@@ -350,21 +366,75 @@ public class AmazonS3Plugin extends BasePlugin {
         }
 
         /*
+         * - Reads the file, or only the given range of its bytes, in chunks that are encoded into the result as they
+         *   are read. This way the content is never held as a whole byte array alongside its encoded copy.
+         * - A null `rangeEnd` reads till the end of the file.
          * - Exception thrown here needs to be handled by the caller.
          */
-        String readFile(AmazonS3 connection, String bucketName, String path, Boolean encodeContent) throws IOException {
-            S3Object fullObject = connection.getObject(bucketName, path);
-            S3ObjectInputStream content = fullObject.getObjectContent();
-            byte[] bytes = IOUtils.toByteArray(content);
-
-            String result;
-            if (Boolean.TRUE.equals(encodeContent)) {
-                result = new String(Base64.getEncoder().encode(bytes));
-            } else {
-                result = new String(bytes);
+        String readFile(
+                AmazonS3 connection,
+                String bucketName,
+                String path,
+                Boolean encodeContent,
+                Long rangeStart,
+                Long rangeEnd)
+                throws IOException {
+            GetObjectRequest getObjectRequest = new GetObjectRequest(bucketName, path);
+            if (rangeStart != null && rangeEnd != null) {
+                getObjectRequest.setRange(rangeStart, rangeEnd);
+            } else if (rangeStart != null) {
+                getObjectRequest.setRange(rangeStart);
             }
 
-            return result;
+            try (S3Object s3Object = connection.getObject(getObjectRequest);
+                    InputStream content = s3Object.getObjectContent()) {
+                ObjectMetadata objectMetadata = s3Object.getObjectMetadata();
+                long contentLength = objectMetadata == null ? 0 : objectMetadata.getContentLength();
+
+                if (Boolean.TRUE.equals(encodeContent)) {
+                    return readAsBase64(content, contentLength);
+                }
+                return readAsText(content, contentLength);
+            }
+        }
+
+        private String readAsBase64(InputStream content, long contentLength) throws IOException {
+            final Base64.Encoder encoder = Base64.getEncoder();
+            final StringBuilder result = new StringBuilder(getInitialCapacity(4 * ((contentLength + 2) / 3)));
+
+            // Every chunk but the last one is filled completely, and is a multiple of 3 bytes long, so the chunks
+            // can be encoded one after the other without any padding in between
+            final byte[] chunk = new byte[READ_CHUNK_SIZE];
+            final byte[] encodedChunk = new byte[4 * (READ_CHUNK_SIZE / 3)];
+            int chunkLength;
+            while ((chunkLength = content.readNBytes(chunk, 0, chunk.length)) > 0) {
+                if (chunkLength == chunk.length) {
+                    int encodedLength = encoder.encode(chunk, encodedChunk);
+                    result.append(new String(encodedChunk, 0, encodedLength, StandardCharsets.ISO_8859_1));
+                } else {
+                    result.append(
+                            new String(encoder.encode(Arrays.copyOf(chunk, chunkLength)), StandardCharsets.ISO_8859_1));
+                }
+            }
+
+            return result.toString();
+        }
+
+        private String readAsText(InputStream content, long contentLength) throws IOException {
+            final StringBuilder result = new StringBuilder(getInitialCapacity(contentLength));
+            final Reader reader = new InputStreamReader(content, Charset.defaultCharset());
+            final char[] chunk = new char[READ_CHUNK_SIZE];
+            int chunkLength;
+            while ((chunkLength = reader.read(chunk)) != -1) {
+                result.append(chunk, 0, chunkLength);
+            }
+
+            return result.toString();
+        }
+
+        private int getInitialCapacity(long expectedLength) {
+            // The content length is only a hint, and may be missing, so the result grows past this capacity as needed
+            return (int) Math.min(Math.max(expectedLength, 16), MAX_INITIAL_CAPACITY);
         }
 
         @Override
@@ -433,6 +503,7 @@ public class AmazonS3Plugin extends BasePlugin {
                 ActionConfiguration actionConfiguration) {
 
             final String[] query = new String[1];
+            final String[] nextContinuationToken = new String[1];
             Map<String, Object> requestProperties = new HashMap<>();
             List<RequestParamDTO> requestParams = new ArrayList<>();
 
@@ -510,7 +581,56 @@ public class AmazonS3Plugin extends BasePlugin {
                                 String prefix = getDataValueSafelyFromFormData(formData, LIST_PREFIX, STRING_TYPE, "");
                                 requestParams.add(new RequestParamDTO(LIST_PREFIX, prefix, null, null, null));
 
-                                ArrayList<String> listOfFiles = listAllFilesInBucket(connection, bucketName, prefix);
+                                Integer pageSize = null;
+                                String pageSizeValue =
+                                        getDataValueSafelyFromFormData(formData, LIST_PAGE_SIZE, STRING_TYPE, "");
+                                if (!StringUtils.isNullOrEmpty(pageSizeValue)) {
+                                    try {
+                                        pageSize = Integer.parseInt(pageSizeValue.trim());
+                                    } catch (NumberFormatException e) {
+                                        pageSize = 0;
+                                    }
+
+                                    if (pageSize <= 0) {
+                                        return Mono.error(new AppsmithPluginException(
+                                                AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                                                S3ErrorMessages.PAGE_SIZE_NOT_A_NUMBER_ERROR_MSG,
+                                                pageSizeValue));
+                                    }
+                                    requestParams.add(new RequestParamDTO(LIST_PAGE_SIZE, pageSize, null, null, null));
+                                }
+
+                                String continuationToken = getDataValueSafelyFromFormData(
+                                        formData, LIST_CONTINUATION_TOKEN, STRING_TYPE, "");
+                                if (!StringUtils.isNullOrEmpty(continuationToken)) {
+                                    requestParams.add(new RequestParamDTO(
+                                            LIST_CONTINUATION_TOKEN, continuationToken, null, null, null));
+                                }
+
+                                // Check if where condition is configured
+                                Object whereFormObject =
+                                        getDataValueSafelyFromFormData(formData, LIST_WHERE, OBJECT_TYPE);
+                                Condition condition = null;
+
+                                if (whereFormObject != null) {
+                                    Map<String, Object> whereForm = (Map<String, Object>) whereFormObject;
+                                    condition = parseWhereClause(whereForm);
+                                }
+
+                                List<Map<String, String>> sortBy = getDataValueSafelyFromFormData(
+                                        formData, LIST_SORT, new TypeReference<List<Map<String, String>>>() {});
+
+                                Map<String, String> paginateBy = getDataValueSafelyFromFormData(
+                                        formData, LIST_PAGINATE, new TypeReference<Map<String, String>>() {});
+
+                                FileListing fileListing = listFilesInBucket(
+                                        connection,
+                                        bucketName,
+                                        prefix,
+                                        continuationToken,
+                                        getMaxFilesToList(pageSize, condition, sortBy, paginateBy));
+                                List<String> listOfFiles = fileListing.fileNames();
+                                nextContinuationToken[0] = fileListing.nextContinuationToken();
 
                                 Boolean isSignedUrl = YES.equals(
                                         getDataValueSafelyFromFormData(formData, LIST_SIGNED_URL, STRING_TYPE));
@@ -539,7 +659,7 @@ public class AmazonS3Plugin extends BasePlugin {
                                     DateFormat dateTimeFormat = new SimpleDateFormat("dd MMM yyyy HH:mm:ss:SSS z");
                                     String expiryDateTimeString = dateTimeFormat.format(expiryDateTime);
 
-                                    ArrayList<String> listOfSignedUrls =
+                                    List<String> listOfSignedUrls =
                                             getSignedUrls(connection, bucketName, listOfFiles, expiryDateTime);
                                     if (listOfFiles.size() != listOfSignedUrls.size()) {
                                         return Mono.error(new AppsmithPluginException(
@@ -582,22 +702,6 @@ public class AmazonS3Plugin extends BasePlugin {
                                     requestParams.add(new RequestParamDTO(LIST_UNSIGNED_URL, NO, null, null, null));
                                 }
 
-                                // Check if where condition is configured
-                                Object whereFormObject =
-                                        getDataValueSafelyFromFormData(formData, LIST_WHERE, OBJECT_TYPE);
-                                Condition condition = null;
-
-                                if (whereFormObject != null) {
-                                    Map<String, Object> whereForm = (Map<String, Object>) whereFormObject;
-                                    condition = parseWhereClause(whereForm);
-                                }
-
-                                List<Map<String, String>> sortBy = getDataValueSafelyFromFormData(
-                                        formData, LIST_SORT, new TypeReference<List<Map<String, String>>>() {});
-
-                                Map<String, String> paginateBy = getDataValueSafelyFromFormData(
-                                        formData, LIST_PAGINATE, new TypeReference<Map<String, String>>() {});
-
                                 ArrayNode preFilteringResponse = objectMapper.valueToTree(actionResult);
                                 actionResult = filterDataService.filterDataNew(
                                         preFilteringResponse,
@@ -708,14 +812,41 @@ public class AmazonS3Plugin extends BasePlugin {
                                 String result;
 
                                 String isBase64 = getDataValueSafelyFromFormData(formData, READ_DATATYPE, STRING_TYPE);
+                                boolean encodeContent = YES.equals(isBase64);
+                                requestParams.add(
+                                        new RequestParamDTO(READ_DATATYPE, encodeContent ? YES : NO, null, null, null));
+
+                                Long rangeStart = null;
+                                Long rangeEnd = null;
+                                String range = getDataValueSafelyFromFormData(formData, READ_RANGE, STRING_TYPE, "");
+                                if (!StringUtils.isNullOrEmpty(range.trim())) {
+                                    Matcher rangeMatcher = BYTE_RANGE_PATTERN.matcher(range.trim());
+                                    if (!rangeMatcher.matches()) {
+                                        return Mono.error(new AppsmithPluginException(
+                                                AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                                                S3ErrorMessages.INVALID_BYTE_RANGE_ERROR_MSG));
+                                    }
 
-                                if (YES.equals(isBase64)) {
-                                    requestParams.add(new RequestParamDTO(READ_DATATYPE, YES, null, null, null));
-                                    result = readFile(connection, bucketName, path, true);
-                                } else {
-                                    requestParams.add(new RequestParamDTO(READ_DATATYPE, NO, null, null, null));
-                                    result = readFile(connection, bucketName, path, false);
+                                    try {
+                                        rangeStart = Long.parseLong(rangeMatcher.group(1));
+                                        rangeEnd = rangeMatcher.group(2).isEmpty()
+                                                ? null
+                                                : Long.parseLong(rangeMatcher.group(2));
+                                    } catch (NumberFormatException e) {
+                                        return Mono.error(new AppsmithPluginException(
+                                                AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                                                S3ErrorMessages.INVALID_BYTE_RANGE_ERROR_MSG));
+                                    }
+
+                                    if (rangeEnd != null && rangeEnd < rangeStart) {
+                                        return Mono.error(new AppsmithPluginException(
+                                                AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                                                S3ErrorMessages.INVALID_BYTE_RANGE_ERROR_MSG));
+                                    }
+                                    requestParams.add(new RequestParamDTO(READ_RANGE, range.trim(), null, null, null));
                                 }
+
+                                result = readFile(connection, bucketName, path, encodeContent, rangeStart, rangeEnd);
                                 actionResult = Map.of("fileData", result);
                                 break;
                             case DELETE_FILE:
@@ -763,6 +894,11 @@ public class AmazonS3Plugin extends BasePlugin {
                         ActionExecutionResult actionExecutionResult = new ActionExecutionResult();
                         actionExecutionResult.setBody(result);
                         actionExecutionResult.setIsExecutionSuccess(true);
+                        if (nextContinuationToken[0] != null) {
+                            actionExecutionResult.setHeaders(objectMapper
+                                    .createObjectNode()
+                                    .put(NEXT_CONTINUATION_TOKEN, nextContinuationToken[0]));
+                        }
                         log.debug("In the S3 Plugin, got action execution result");
                         return Mono.just(actionExecutionResult);
                     })
@@ -792,6 +928,47 @@ public class AmazonS3Plugin extends BasePlugin {
                     .subscribeOn(scheduler);
         }
 
+        /*
+         * - Returns how many files need to be listed. That is the page size when one is set, or fewer if the files are
+         *   only paginated, since a page of an unfiltered and unsorted listing only needs the files up to its end.
+         * - Returns null when all the files need to be listed.
+         */
+        private Integer getMaxFilesToList(
+                Integer pageSize,
+                Condition condition,
+                List<Map<String, String>> sortBy,
+                Map<String, String> paginateBy) {
+            boolean isFiltered = Condition.isValid(condition)
+                    && !(condition.getValue() instanceof List<?> conditions && conditions.isEmpty());
+            boolean isSorted = sortBy != null
+                    && sortBy.stream()
+                            .anyMatch(sortCondition -> sortCondition != null
+                                    && !StringUtils.isNullOrEmpty(sortCondition.get(SORT_BY_COLUMN_NAME_KEY)));
+            if (isFiltered || isSorted || CollectionUtils.isEmpty(paginateBy)) {
+                return pageSize;
+            }
+
+            // Missing or invalid pagination values are left to the filter, which has its own defaults and errors
+            String limit = paginateBy.get(PAGINATE_LIMIT_KEY);
+            String offset = paginateBy.get(PAGINATE_OFFSET_KEY);
+            if (limit == null || limit.isBlank()) {
+                return pageSize;
+            }
+
+            int paginationEnd;
+            try {
+                paginationEnd = Integer.parseInt(limit.trim())
+                        + (offset == null || offset.isBlank() ? 0 : Integer.parseInt(offset.trim()));
+            } catch (NumberFormatException e) {
+                return pageSize;
+            }
+
+            if (paginationEnd <= 0) {
+                return pageSize;
+            }
+            return pageSize == null ? paginationEnd : Math.min(pageSize, paginationEnd);
+        }
+
         private void deleteMultipleObjects(AmazonS3 connection, String bucketName, String path)
                 throws AppsmithPluginException {
             List<String> listOfFiles;
@@ -983,9 +1160,10 @@ public class AmazonS3Plugin extends BasePlugin {
         }
 
         private String getOneFileNameOrDefault(AmazonS3 connection, String bucketName, String defaultFileName) {
-            ArrayList<String> listOfFiles;
+            List<String> listOfFiles;
             try {
-                listOfFiles = listAllFilesInBucket(connection, bucketName, "");
+                listOfFiles =
+                        listFilesInBucket(connection, bucketName, "", null, 1).fileNames();
             } catch (AppsmithPluginException e) {
                 return defaultFileName;
             }
@@ -1019,24 +1197,64 @@ public class AmazonS3Plugin extends BasePlugin {
             return encodedPayload;
         }
 
+        /*
+         * - Returns the content of a file to upload, as a stream along with its length.
+         * - For files uploaded using Filepicker.xyz.base64, body format is "<content-type>;base64,<actual-base64-
+         *   encoded-payload>". The redundant part in the beginning is skipped, and the rest is decoded as it is
+         *   uploaded, instead of being decoded into a byte array first.
+         */
+        FilePayload getFilePayload(MultipartFormDataDTO multipartFormDataDTO, Boolean usingFilePicker)
+                throws AppsmithPluginException {
+            String encodedPayload = getEncodedPayloadFromMultipartDTO(multipartFormDataDTO);
+            if (!Boolean.TRUE.equals(usingFilePicker)) {
+                byte[] payload = encodedPayload.getBytes();
+                return new FilePayload(new ByteArrayInputStream(payload), payload.length);
+            }
+
+            int delimiterIndex = encodedPayload.lastIndexOf(BASE64_DELIMITER);
+            int payloadStart = delimiterIndex < 0 ? 0 : delimiterIndex + BASE64_DELIMITER.length();
+
+            // Decoding the payload once before the upload checks that it is valid base64, and gives the length of the
+            // file, which lets large files be uploaded in parts
+            long contentLength;
+            try (InputStream decodedPayload =
+                    Base64.getDecoder().wrap(new Latin1StringInputStream(encodedPayload, payloadStart))) {
+                contentLength = decodedPayload.transferTo(OutputStream.nullOutputStream());
+            } catch (IOException e) {
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        S3ErrorMessages.UNEXPECTED_ENCODING_IN_FILE_CONTENT_ERROR_MSG);
+            }
+
+            return new FilePayload(
+                    Base64.getDecoder().wrap(new Latin1StringInputStream(encodedPayload, payloadStart)), contentLength);
+        }
+
         void uploadFileInS3(
-                byte[] payload,
+                InputStream inputStream,
+                long contentLength,
                 AmazonS3 connection,
                 MultipartFormDataDTO multipartFormDataDTO,
                 String bucketName,
                 String path)
                 throws InterruptedException {
-            InputStream inputStream = new ByteArrayInputStream(payload);
             TransferManager transferManager =
                     TransferManagerBuilder.standard().withS3Client(connection).build();
             final ObjectMetadata objectMetadata = new ObjectMetadata();
+            // With the length known, the transfer manager uploads large files in parts instead of buffering them
+            objectMetadata.setContentLength(contentLength);
             // Only add content type if the user has mentioned it in the body
             if (multipartFormDataDTO.getType() != null) {
                 objectMetadata.setContentType(multipartFormDataDTO.getType());
             }
-            transferManager
-                    .upload(bucketName, path, inputStream, objectMetadata)
-                    .waitForUploadResult();
+            try {
+                transferManager
+                        .upload(bucketName, path, inputStream, objectMetadata)
+                        .waitForUploadResult();
+            } finally {
+                // Stops the threads of the transfer manager, but leaves the client open for the next queries
+                transferManager.shutdownNow(false);
+            }
         }
 
         /**
@@ -1061,5 +1279,15 @@ public class AmazonS3Plugin extends BasePlugin {
 
             return Mono.empty();
         }
+
+        /*
+         * - A page of files listed from a bucket, along with the key to continue listing from when more files are left.
+         */
+        record FileListing(List<String> fileNames, String nextContinuationToken) {}
+
+        /*
+         * - The content of a file to upload, and its length in bytes.
+         */
+        record FilePayload(InputStream content, long contentLength) {}
     }
 }
@@ -1,5 +1,7 @@
 package com.external.plugins.constants;
 
+import java.util.regex.Pattern;
+
 public class S3PluginConstants {
     public static final String S3_DRIVER = "com.amazonaws.services.s3.AmazonS3";
     public static final int S3_SERVICE_PROVIDER_PROPERTY_INDEX = 1;
@@ -12,4 +14,10 @@ public class S3PluginConstants {
     public static final String AWS_S3_SERVICE_PROVIDER = "amazon-s3";
     public static String DEFAULT_FILE_NAME = "MyFile.txt";
     public static final String ACCESS_DENIED_ERROR_CODE = "AccessDenied";
+    public static final int MAX_KEYS_PER_LIST_REQUEST = 1000; // max keys that S3 returns in one list call
+    public static final int SIGNED_URL_BATCH_SIZE = 100;
+    public static final String NEXT_CONTINUATION_TOKEN = "nextContinuationToken";
+    public static final int READ_CHUNK_SIZE = 3 * 64 * 1024; // a multiple of 3, so that chunks can be base64 encoded
+    public static final int MAX_INITIAL_CAPACITY = 64 * 1024 * 1024;
+    public static final Pattern BYTE_RANGE_PATTERN = Pattern.compile("(\\d+)-(\\d*)");
 }
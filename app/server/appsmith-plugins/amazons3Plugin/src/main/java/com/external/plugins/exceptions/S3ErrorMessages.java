@@ -62,6 +62,15 @@ public class S3ErrorMessages extends BasePluginErrorMessages {
                     + "any non-negative integer. Please note that the maximum expiry "
                     + "duration supported by Amazon S3 is 7 days i.e. 10080 minutes.";
 
+    public static final String PAGE_SIZE_NOT_A_NUMBER_ERROR_MSG =
+            "Parameter 'Page size' is NOT a valid number. Please ensure that the input to 'Page size' field is a "
+                    + "positive integer.";
+
+    public static final String INVALID_BYTE_RANGE_ERROR_MSG =
+            "Parameter 'Byte range' is NOT valid. Please ensure that the input to 'Byte range' field is of the form "
+                    + "'<start>-<end>' or '<start>-', where start and end are byte positions and end is not before "
+                    + "start.";
+
     public static final String ACTION_LIST_OF_FILE_FETCHING_ERROR_MSG =
             "Appsmith server has encountered an unexpected error when getting "
                     + "list of files from AWS S3 server. Please reach out to Appsmith customer "
@@ -0,0 +1,55 @@
+package com.external.utils;
+
+import java.io.InputStream;
+
+/**
+ * Reads the characters of a string, from the given index on, as ISO-8859-1 bytes. Characters outside that charset are
+ * read as '?', the same as {@link String#getBytes(java.nio.charset.Charset)} does. This lets a large base64 string be
+ * decoded as a stream, without first copying it into a byte array.
+ */
+public class Latin1StringInputStream extends InputStream {
+
+    private static final int UNMAPPABLE_CHARACTER = '?';
+
+    private final String value;
+
+    private int position;
+
+    public Latin1StringInputStream(String value, int startIndex) {
+        this.value = value;
+        this.position = startIndex;
+    }
+
+    @Override
+    public int read() {
+        if (position >= value.length()) {
+            return -1;
+        }
+        return toByte(value.charAt(position++));
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) {
+        if (length == 0) {
+            return 0;
+        }
+        if (position >= value.length()) {
+            return -1;
+        }
+
+        final int count = Math.min(length, value.length() - position);
+        for (int i = 0; i < count; i++) {
+            buffer[offset + i] = (byte) toByte(value.charAt(position++));
+        }
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return value.length() - position;
+    }
+
+    private static int toByte(char character) {
+        return character > 0xFF ? UNMAPPABLE_CHARACTER : character;
+    }
+}
@@ -6,6 +6,9 @@ import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.services.s3.model.Bucket;
 import com.amazonaws.services.s3.model.DeleteObjectsResult;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ListObjectsRequest;
 import com.amazonaws.services.s3.model.ObjectListing;
 import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.model.S3ObjectInputStream;
@@ -13,7 +16,9 @@ import com.amazonaws.services.s3.model.S3ObjectSummary;
 import com.amazonaws.util.Base64;
 import com.appsmith.external.datatypes.ClientDataType;
 import com.appsmith.external.dtos.ExecuteActionDTO;
+import com.appsmith.external.dtos.MultipartFormDataDTO;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.PluginUtils;
 import com.appsmith.external.models.ActionConfiguration;
@@ -34,12 +39,14 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mockito;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -47,9 +54,11 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -61,7 +70,9 @@ import static com.external.plugins.constants.FieldName.BUCKET;
 import static com.external.plugins.constants.FieldName.COMMAND;
 import static com.external.plugins.constants.FieldName.CREATE_DATATYPE;
 import static com.external.plugins.constants.FieldName.CREATE_EXPIRY;
+import static com.external.plugins.constants.FieldName.LIST_CONTINUATION_TOKEN;
 import static com.external.plugins.constants.FieldName.LIST_EXPIRY;
+import static com.external.plugins.constants.FieldName.LIST_PAGE_SIZE;
 import static com.external.plugins.constants.FieldName.LIST_PREFIX;
 import static com.external.plugins.constants.FieldName.LIST_SIGNED_URL;
 import static com.external.plugins.constants.FieldName.LIST_UNSIGNED_URL;
@@ -69,10 +80,12 @@ import static com.external.plugins.constants.FieldName.LIST_WHERE;
 import static com.external.plugins.constants.FieldName.PATH;
 import static com.external.plugins.constants.FieldName.READ_DATATYPE;
 import static com.external.plugins.constants.FieldName.READ_EXPIRY;
+import static com.external.plugins.constants.FieldName.READ_RANGE;
 import static com.external.plugins.constants.FieldName.SMART_SUBSTITUTION;
 import static com.external.plugins.constants.S3PluginConstants.DEFAULT_FILE_NAME;
 import static com.external.plugins.constants.S3PluginConstants.DEFAULT_URL_EXPIRY_IN_MINUTES;
 import static com.external.plugins.constants.S3PluginConstants.NO;
+import static com.external.plugins.constants.S3PluginConstants.READ_CHUNK_SIZE;
 import static com.external.plugins.constants.S3PluginConstants.YES;
 import static com.external.utils.DatasourceUtils.getS3ClientBuilder;
 import static com.external.utils.TemplateUtils.CREATE_FILE_TEMPLATE_NAME;
@@ -90,13 +103,17 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.util.CollectionUtils.isEmpty;
 
@@ -290,7 +307,7 @@ public class AmazonS3PluginTest {
 
         ObjectListing mockObjectListing = mock(ObjectListing.class);
         AmazonS3 mockConnection = mock(AmazonS3.class);
-        when(mockConnection.listObjects(anyString(), anyString())).thenReturn(mockObjectListing);
+        when(mockConnection.listObjects(any(ListObjectsRequest.class))).thenReturn(mockObjectListing);
 
         S3ObjectSummary mockS3ObjectSummary = mock(S3ObjectSummary.class);
         List<S3ObjectSummary> mockS3ObjectSummaryList = new ArrayList<>();
@@ -327,6 +344,87 @@ public class AmazonS3PluginTest {
      * - If everything goes well, then only expected exception is the one thrown by AmazonS3 connection
      *   regarding false credentials.
      */
+    @Test
+    public void testListFilesInBucketWithPageSize_returnsNextContinuationToken() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, COMMAND, "LIST");
+        setDataValueSafelyInFormData(configMap, BUCKET, "bucket_name");
+        setDataValueSafelyInFormData(configMap, LIST_SIGNED_URL, "NO");
+        setDataValueSafelyInFormData(configMap, LIST_PAGE_SIZE, "3");
+        setDataValueSafelyInFormData(configMap, LIST_CONTINUATION_TOKEN, "file_0");
+
+        actionConfiguration.setFormData(configMap);
+
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+        ObjectListing firstBatch = mockObjectListing(List.of("file_1", "file_2"), true);
+        ObjectListing secondBatch = mockObjectListing(List.of("file_3", "file_4"), true);
+        when(mockConnection.listObjects(any(ListObjectsRequest.class))).thenReturn(firstBatch);
+        when(mockConnection.listNextBatchOfObjects(firstBatch)).thenReturn(secondBatch);
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
+                mockConnection, executeActionDTO, datasourceConfiguration, actionConfiguration);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+
+                    ArrayNode node = (ArrayNode) result.getBody();
+                    assertEquals(3, node.size());
+                    assertEquals("file_3", node.get(2).get("fileName").asText());
+                    assertEquals(
+                            "file_3",
+                            result.getHeaders().get("nextContinuationToken").asText());
+                })
+                .verifyComplete();
+
+        // Listing stops once the page is full, and starts after the continuation token
+        ArgumentCaptor<ListObjectsRequest> requestCaptor = ArgumentCaptor.forClass(ListObjectsRequest.class);
+        verify(mockConnection).listObjects(requestCaptor.capture());
+        assertEquals("file_0", requestCaptor.getValue().getMarker());
+        assertEquals(3, requestCaptor.getValue().getMaxKeys());
+        verify(mockConnection, times(1)).listNextBatchOfObjects(any(ObjectListing.class));
+    }
+
+    @Test
+    public void testGetSignedUrls_withManyFiles_keepsOrderOfFiles() throws MalformedURLException {
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+        when(mockConnection.generatePresignedUrl(any()))
+                .thenAnswer(invocation -> new URL(
+                        "http",
+                        "signed_url",
+                        "/" + ((GeneratePresignedUrlRequest) invocation.getArgument(0)).getKey()));
+
+        List<String> listOfFiles = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            listOfFiles.add("file_" + i);
+        }
+
+        List<String> signedUrls = pluginExecutor.getSignedUrls(mockConnection, "bucket_name", listOfFiles, new Date());
+
+        assertEquals(
+                listOfFiles.stream().map(file -> "http://signed_url/" + file).collect(Collectors.toList()), signedUrls);
+    }
+
+    private ObjectListing mockObjectListing(List<String> keys, boolean isTruncated) {
+        ObjectListing objectListing = mock(ObjectListing.class);
+        List<S3ObjectSummary> objectSummaries = new ArrayList<>();
+        for (String key : keys) {
+            S3ObjectSummary objectSummary = new S3ObjectSummary();
+            objectSummary.setKey(key);
+            objectSummaries.add(objectSummary);
+        }
+        when(objectListing.getObjectSummaries()).thenReturn(objectSummaries);
+        when(objectListing.isTruncated()).thenReturn(isTruncated);
+        return objectListing;
+    }
+
     @Test
     public void testCreateFileFromBodyWithFalseCredentialsAndNonNullDuration() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
@@ -607,7 +705,7 @@ public class AmazonS3PluginTest {
 
         S3Object mockS3Object = mock(S3Object.class);
         AmazonS3 mockConnection = mock(AmazonS3.class);
-        when(mockConnection.getObject(anyString(), anyString())).thenReturn(mockS3Object);
+        when(mockConnection.getObject(any(GetObjectRequest.class))).thenReturn(mockS3Object);
 
         String dummyContent = "Hello World !!!\n";
         InputStream dummyInputStream = new ByteArrayInputStream(dummyContent.getBytes());
@@ -645,7 +743,7 @@ public class AmazonS3PluginTest {
 
         S3Object mockS3Object = mock(S3Object.class);
         AmazonS3 mockConnection = mock(AmazonS3.class);
-        when(mockConnection.getObject(anyString(), anyString())).thenReturn(mockS3Object);
+        when(mockConnection.getObject(any(GetObjectRequest.class))).thenReturn(mockS3Object);
 
         String dummyContent = "Hello World !!!\n";
         InputStream dummyInputStream = new ByteArrayInputStream(dummyContent.getBytes());
@@ -680,6 +778,99 @@ public class AmazonS3PluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testReadFileWithByteRange_requestsOnlyThatRange() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, PATH, "path");
+        setDataValueSafelyInFormData(configMap, COMMAND, "READ_FILE");
+        setDataValueSafelyInFormData(configMap, BUCKET, "bucket_name");
+        setDataValueSafelyInFormData(configMap, READ_DATATYPE, "NO");
+        setDataValueSafelyInFormData(configMap, READ_RANGE, "6-10");
+
+        actionConfiguration.setFormData(configMap);
+
+        S3Object mockS3Object = mock(S3Object.class);
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+        ArgumentCaptor<GetObjectRequest> requestCaptor = ArgumentCaptor.forClass(GetObjectRequest.class);
+        when(mockConnection.getObject(requestCaptor.capture())).thenReturn(mockS3Object);
+
+        String dummyContent = "World";
+        InputStream dummyInputStream = new ByteArrayInputStream(dummyContent.getBytes());
+        when(mockS3Object.getObjectContent()).thenReturn(new S3ObjectInputStream(dummyInputStream, null));
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
+                mockConnection, executeActionDTO, datasourceConfiguration, actionConfiguration);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    Map<String, Object> body = (Map<String, Object>) result.getBody();
+                    assertEquals(dummyContent, body.get("fileData"));
+                    assertArrayEquals(
+                            new long[] {6, 10}, requestCaptor.getValue().getRange());
+                    assertTrue(result.getRequest()
+                            .getRequestParams()
+                            .toString()
+                            .contains(new RequestParamDTO(READ_RANGE, "6-10", null, null, null).toString()));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testReadFileWithInvalidByteRange_returnsError() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, PATH, "path");
+        setDataValueSafelyInFormData(configMap, COMMAND, "READ_FILE");
+        setDataValueSafelyInFormData(configMap, BUCKET, "bucket_name");
+        setDataValueSafelyInFormData(configMap, READ_DATATYPE, "NO");
+        setDataValueSafelyInFormData(configMap, READ_RANGE, "10-6");
+
+        actionConfiguration.setFormData(configMap);
+
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
+                mockConnection, executeActionDTO, datasourceConfiguration, actionConfiguration);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals(S3ErrorMessages.INVALID_BYTE_RANGE_ERROR_MSG, result.getBody());
+                })
+                .verifyComplete();
+        verify(mockConnection, times(0)).getObject(any(GetObjectRequest.class));
+    }
+
+    @Test
+    public void testReadFileWithBase64Encoding_largerThanOneChunk_encodesWholeFile() throws IOException {
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+
+        byte[] dummyContent = new byte[2 * READ_CHUNK_SIZE + 1];
+        new Random(42).nextBytes(dummyContent);
+
+        S3Object mockS3Object = mock(S3Object.class);
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+        when(mockConnection.getObject(any(GetObjectRequest.class))).thenReturn(mockS3Object);
+        when(mockS3Object.getObjectContent())
+                .thenReturn(new S3ObjectInputStream(new ByteArrayInputStream(dummyContent), null));
+
+        String result = pluginExecutor.readFile(mockConnection, "bucket_name", "path", true, null, null);
+
+        assertEquals(java.util.Base64.getEncoder().encodeToString(dummyContent), result);
+    }
+
     @Test
     public void testDeleteFile() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
@@ -744,7 +935,7 @@ public class AmazonS3PluginTest {
 
         ObjectListing mockObjectListing = mock(ObjectListing.class);
         AmazonS3 mockConnection = mock(AmazonS3.class);
-        when(mockConnection.listObjects(anyString(), anyString())).thenReturn(mockObjectListing);
+        when(mockConnection.listObjects(any(ListObjectsRequest.class))).thenReturn(mockObjectListing);
 
         S3ObjectSummary mockS3ObjectSummary = mock(S3ObjectSummary.class);
         List<S3ObjectSummary> mockS3ObjectSummaryList = new ArrayList<>();
@@ -796,7 +987,7 @@ public class AmazonS3PluginTest {
 
         ObjectListing mockObjectListing = mock(ObjectListing.class);
         AmazonS3 mockConnection = mock(AmazonS3.class);
-        when(mockConnection.listObjects(anyString(), anyString())).thenReturn(mockObjectListing);
+        when(mockConnection.listObjects(any(ListObjectsRequest.class))).thenReturn(mockObjectListing);
 
         S3ObjectSummary mockS3ObjectSummary = mock(S3ObjectSummary.class);
         List<S3ObjectSummary> mockS3ObjectSummaryList = new ArrayList<>();
@@ -860,7 +1051,7 @@ public class AmazonS3PluginTest {
 
         ObjectListing mockObjectListing = mock(ObjectListing.class);
         AmazonS3 mockConnection = mock(AmazonS3.class);
-        when(mockConnection.listObjects(anyString(), anyString())).thenReturn(mockObjectListing);
+        when(mockConnection.listObjects(any(ListObjectsRequest.class))).thenReturn(mockObjectListing);
 
         S3ObjectSummary mockS3ObjectSummary = mock(S3ObjectSummary.class);
         List<S3ObjectSummary> mockS3ObjectSummaryList = new ArrayList<>();
@@ -924,7 +1115,7 @@ public class AmazonS3PluginTest {
 
         ObjectListing mockObjectListing = mock(ObjectListing.class);
         AmazonS3 mockConnection = mock(AmazonS3.class);
-        when(mockConnection.listObjects(anyString(), anyString())).thenReturn(mockObjectListing);
+        when(mockConnection.listObjects(any(ListObjectsRequest.class))).thenReturn(mockObjectListing);
 
         S3ObjectSummary mockS3ObjectSummary = mock(S3ObjectSummary.class);
         List<S3ObjectSummary> mockS3ObjectSummaryList = new ArrayList<>();
@@ -1332,7 +1523,7 @@ public class AmazonS3PluginTest {
                 spyS3PluginExecutor.datasourceCreate(datasourceConfiguration).block();
         ArrayList<String> signedURLS = new ArrayList<>();
         signedURLS.add("https://example.signed.url");
-        doNothing().when(spyS3PluginExecutor).uploadFileInS3(any(), any(), any(), anyString(), anyString());
+        doNothing().when(spyS3PluginExecutor).uploadFileInS3(any(), anyLong(), any(), any(), anyString(), anyString());
         doReturn(signedURLS).when(spyS3PluginExecutor).getSignedUrls(any(), anyString(), any(), any());
         Mono<ActionExecutionResult> resultMono = spyS3PluginExecutor.executeParameterized(
                 connection, executeActionDTO, datasourceConfiguration, actionConfiguration);
@@ -1371,7 +1562,7 @@ public class AmazonS3PluginTest {
         ArrayList<String> signedURLS = new ArrayList<>();
         signedURLS.add("https://example.signed.url1");
         signedURLS.add("https://example.signed.url2");
-        doNothing().when(spyS3PluginExecutor).uploadFileInS3(any(), any(), any(), anyString(), anyString());
+        doNothing().when(spyS3PluginExecutor).uploadFileInS3(any(), anyLong(), any(), any(), anyString(), anyString());
         doReturn(signedURLS).when(spyS3PluginExecutor).getSignedUrls(any(), anyString(), any(), any());
         Mono<ActionExecutionResult> resultMono = spyS3PluginExecutor.executeParameterized(
                 connection, executeActionDTO, datasourceConfiguration, actionConfiguration);
@@ -1387,6 +1578,29 @@ public class AmazonS3PluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testGetFilePayload_withFilePicker_decodesContentWithItsLength() throws Exception {
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        MultipartFormDataDTO multipartFormDataDTO = new MultipartFormDataDTO();
+        multipartFormDataDTO.setData("data:text/plain;base64,SGVsbG8gV29ybGQhCg==");
+
+        AmazonS3Plugin.S3PluginExecutor.FilePayload payload = pluginExecutor.getFilePayload(multipartFormDataDTO, true);
+
+        assertEquals(13, payload.contentLength());
+        assertEquals("Hello World!\n", new String(payload.content().readAllBytes()));
+    }
+
+    @Test
+    public void testGetFilePayload_withInvalidBase64_throwsError() {
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        MultipartFormDataDTO multipartFormDataDTO = new MultipartFormDataDTO();
+        multipartFormDataDTO.setData("data:text/plain;base64,not base64!");
+
+        AppsmithPluginException exception = assertThrows(
+                AppsmithPluginException.class, () -> pluginExecutor.getFilePayload(multipartFormDataDTO, true));
+        assertEquals(S3ErrorMessages.UNEXPECTED_ENCODING_IN_FILE_CONTENT_ERROR_MSG, exception.getMessage());
+    }
+
     @Test
     public void uploadsSingleFileWithoutFilePicker() throws InterruptedException {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
@@ -1414,7 +1628,7 @@ public class AmazonS3PluginTest {
                 spyS3PluginExecutor.datasourceCreate(datasourceConfiguration).block();
         ArrayList<String> signedURLS = new ArrayList<>();
         signedURLS.add("https://example.signed.url");
-        doNothing().when(spyS3PluginExecutor).uploadFileInS3(any(), any(), any(), anyString(), anyString());
+        doNothing().when(spyS3PluginExecutor).uploadFileInS3(any(), anyLong(), any(), any(), anyString(), anyString());
         doReturn(signedURLS).when(spyS3PluginExecutor).getSignedUrls(any(), anyString(), any(), any());
         Mono<ActionExecutionResult> resultMono = spyS3PluginExecutor.executeParameterized(
                 connection, executeActionDTO, datasourceConfiguration, actionConfiguration);
@@ -1453,7 +1667,7 @@ public class AmazonS3PluginTest {
         ArrayList<String> signedURLS = new ArrayList<>();
         signedURLS.add("https://example.signed.url1");
         signedURLS.add("https://example.signed.url2");
-        doNothing().when(spyS3PluginExecutor).uploadFileInS3(any(), any(), any(), anyString(), anyString());
+        doNothing().when(spyS3PluginExecutor).uploadFileInS3(any(), anyLong(), any(), any(), anyString(), anyString());
         doReturn(signedURLS).when(spyS3PluginExecutor).getSignedUrls(any(), anyString(), any(), any());
         Mono<ActionExecutionResult> resultMono = spyS3PluginExecutor.executeParameterized(
                 connection, executeActionDTO, datasourceConfiguration, actionConfiguration);
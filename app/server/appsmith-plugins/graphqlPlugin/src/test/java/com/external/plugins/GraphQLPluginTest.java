@@ -94,6 +94,16 @@ public class GraphQLPluginTest {
         public String getRemoteExecutionUrl() {
             return "";
         }
+
+        @Override
+        public int getRestApiMaxConnections() {
+            return 500;
+        }
+
+        @Override
+        public int getRestApiMaxPendingAcquires() {
+            return 1000;
+        }
     }
 
     GraphQLPlugin.GraphQLPluginExecutor pluginExecutor =
@@ -34,8 +34,10 @@ import com.external.plugins.constants.MongoSpecialDataTypes;
 import com.external.plugins.datatypes.MongoSpecificDataTypes;
 import com.external.plugins.exceptions.MongoPluginError;
 import com.external.plugins.exceptions.MongoPluginErrorMessages;
+import com.external.plugins.utils.JsonNodeBsonWriter;
 import com.external.plugins.utils.MongoErrorUtils;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.mongodb.ConnectionString;
@@ -56,14 +58,13 @@ import org.bson.codecs.BsonTypeClassMap;
 import org.bson.codecs.BsonValueCodecProvider;
 import org.bson.codecs.DocumentCodec;
 import org.bson.codecs.DocumentCodecProvider;
+import org.bson.codecs.EncoderContext;
 import org.bson.codecs.IterableCodecProvider;
 import org.bson.codecs.MapCodecProvider;
 import org.bson.codecs.ValueCodecProvider;
 import org.bson.codecs.configuration.CodecRegistries;
 import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
-import org.json.JSONArray;
-import org.json.JSONObject;
 import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
 import org.reactivestreams.Publisher;
@@ -74,14 +75,11 @@ import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
-import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.time.Duration;
 import java.time.Instant;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -215,6 +213,9 @@ public class MongoPlugin extends BasePlugin {
 
     private static final BsonTypeClassMap DEFAULT_BSON_TYPE_CLASS_MAP = new org.bson.codecs.BsonTypeClassMap();
 
+    private static final DocumentCodec DOCUMENT_CODEC =
+            new DocumentCodec(DEFAULT_REGISTRY, DEFAULT_BSON_TYPE_CLASS_MAP);
+
     public MongoPlugin(PluginWrapper wrapper) {
         super(wrapper);
     }
@@ -352,102 +353,99 @@ public class MongoPlugin extends BasePlugin {
                     .onErrorMap(
                             MongoSocketWriteException.class, error -> new StaleConnectionException(error.getMessage()))
                     .flatMap(mongoOutput -> {
-                        try {
-                            /*
-                             * Added Custom codec for JSON conversion since MongoDB Reactive API does not support
-                             * processing of DbRef Object.
-                             * https://github.com/spring-projects/spring-data-mongodb/issues/3015 : Mark Paluch commented
-                             */
-                            DocumentCodec documentCodec =
-                                    new DocumentCodec(DEFAULT_REGISTRY, DEFAULT_BSON_TYPE_CLASS_MAP);
-
-                            JSONObject outputJson = new JSONObject(mongoOutput.toJson(documentCodec));
-
-                            // The output json contains the key "ok". This is the status of the command
-                            BigInteger status = outputJson.getBigInteger("ok");
-                            JSONArray headerArray = new JSONArray();
-
-                            if (BigInteger.ONE.equals(status)) {
-                                result.setIsExecutionSuccess(true);
-                                result.setDataTypes(List.of(
-                                        new ParsedDataType(DisplayDataType.JSON),
-                                        new ParsedDataType(DisplayDataType.RAW)));
-
-                                /*
-                                 For the `findAndModify` command, we don't get the count of modifications made. Instead,
-                                 we either get the modified new value or the pre-modified old value (depending on the
-                                 `new` field in the command. Let's return that value to the user.
-                                */
-                                if (outputJson.has(VALUE)) {
-                                    result.setBody(objectMapper.readTree(
-                                            cleanUp(new JSONObject().put(VALUE, outputJson.get(VALUE)))
-                                                    .toString()));
-                                }
-
-                                /*
-                                 The json contains key "cursor" when find command was issued and there are 1 or more
-                                 results. In case there are no results for find, this key is not present in the result json.
-                                */
-                                if (outputJson.has("cursor")) {
-                                    JSONArray outputResult = (JSONArray) cleanUp(
-                                            outputJson.getJSONObject("cursor").getJSONArray("firstBatch"));
-                                    result.setBody(objectMapper.readTree(outputResult.toString()));
-                                }
+                        /*
+                         * Added Custom codec for JSON conversion since MongoDB Reactive API does not support
+                         * processing of DbRef Object.
+                         * https://github.com/spring-projects/spring-data-mongodb/issues/3015 : Mark Paluch commented
+                         */
+                        JsonNodeBsonWriter jsonNodeWriter = new JsonNodeBsonWriter();
+                        DOCUMENT_CODEC.encode(
+                                jsonNodeWriter,
+                                mongoOutput,
+                                EncoderContext.builder().build());
+                        JsonNode outputJson = jsonNodeWriter.getRootNode();
+
+                        // The output json contains the key "ok". This is the status of the command
+                        BigInteger status = outputJson.get("ok").bigIntegerValue();
+                        ArrayNode headerArray = objectMapper.createArrayNode();
+
+                        if (BigInteger.ONE.equals(status)) {
+                            result.setIsExecutionSuccess(true);
+                            result.setDataTypes(List.of(
+                                    new ParsedDataType(DisplayDataType.JSON), new ParsedDataType(DisplayDataType.RAW)));
 
-                                /*
-                                 The json contains key "n" when insert/update command is issued. "n" for update
-                                 signifies the no of documents selected for update. "n" in case of insert signifies the
-                                 number of documents inserted.
-                                */
-                                if (outputJson.has("n")) {
-                                    JSONObject body = new JSONObject().put("n", outputJson.getBigInteger("n"));
-                                    result.setBody(objectMapper.readTree(body.toString()));
-                                    headerArray.put(body);
-                                }
+                            /*
+                             For the `findAndModify` command, we don't get the count of modifications made. Instead,
+                             we either get the modified new value or the pre-modified old value (depending on the
+                             `new` field in the command. Let's return that value to the user.
+                            */
+                            if (outputJson.has(VALUE)) {
+                                ObjectNode body = objectMapper.createObjectNode();
+                                body.set(VALUE, outputJson.get(VALUE));
+                                result.setBody(body);
+                            }
 
-                                /*
-                                 The json key contains key "nModified" in case of update command. This signifies the no of
-                                 documents updated.
-                                */
-                                if (outputJson.has(N_MODIFIED)) {
-                                    JSONObject body =
-                                            new JSONObject().put(N_MODIFIED, outputJson.getBigInteger(N_MODIFIED));
-                                    result.setBody(objectMapper.readTree(body.toString()));
-                                    headerArray.put(body);
-                                }
+                            /*
+                             The json contains key "cursor" when find command was issued and there are 1 or more
+                             results. In case there are no results for find, this key is not present in the result json.
+                            */
+                            if (outputJson.has("cursor")) {
+                                result.setBody(outputJson.get("cursor").get("firstBatch"));
+                            }
 
-                                /*
-                                 The json contains key "values" when distinct command is used.
-                                */
-                                if (outputJson.has(VALUES)) {
-                                    JSONArray outputResult = (JSONArray) cleanUp(outputJson.getJSONArray(VALUES));
+                            /*
+                             The json contains key "n" when insert/update command is issued. "n" for update
+                             signifies the no of documents selected for update. "n" in case of insert signifies the
+                             number of documents inserted.
+                            */
+                            if (outputJson.has("n")) {
+                                result.setBody(objectMapper
+                                        .createObjectNode()
+                                        .put("n", outputJson.get("n").bigIntegerValue()));
+                                headerArray
+                                        .addObject()
+                                        .put("n", outputJson.get("n").bigIntegerValue());
+                            }
 
-                                    ObjectNode resultNode = objectMapper.createObjectNode();
+                            /*
+                             The json key contains key "nModified" in case of update command. This signifies the no of
+                             documents updated.
+                            */
+                            if (outputJson.has(N_MODIFIED)) {
+                                result.setBody(objectMapper
+                                        .createObjectNode()
+                                        .put(
+                                                N_MODIFIED,
+                                                outputJson.get(N_MODIFIED).bigIntegerValue()));
+                                headerArray
+                                        .addObject()
+                                        .put(
+                                                N_MODIFIED,
+                                                outputJson.get(N_MODIFIED).bigIntegerValue());
+                            }
 
-                                    // Create a JSON structure with the results stored with a key to abide by the
-                                    // Server-Client contract of only sending array of objects in result.
-                                    resultNode.putArray(VALUES).addAll((ArrayNode)
-                                            objectMapper.readTree(outputResult.toString()));
+                            /*
+                             The json contains key "values" when distinct command is used.
+                            */
+                            if (outputJson.has(VALUES)) {
+                                ObjectNode resultNode = objectMapper.createObjectNode();
 
-                                    result.setBody(objectMapper.readTree(resultNode.toString()));
-                                }
+                                // Create a JSON structure with the results stored with a key to abide by the
+                                // Server-Client contract of only sending array of objects in result.
+                                resultNode.set(VALUES, outputJson.get(VALUES));
 
-                                /*
-                                TODO Go through all the possible fields that are returned in the output JSON and add all the fields
-                                 that are important to the headerArray.
-                                 */
+                                result.setBody(resultNode);
                             }
 
-                            JSONObject statusJson = new JSONObject().put("ok", status);
-                            headerArray.put(statusJson);
-                            result.setHeaders(objectMapper.readTree(headerArray.toString()));
-                        } catch (JsonProcessingException e) {
-                            return Mono.error(new AppsmithPluginException(
-                                    MongoPluginError.QUERY_EXECUTION_FAILED,
-                                    MongoPluginErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
-                                    e.getMessage()));
+                            /*
+                            TODO Go through all the possible fields that are returned in the output JSON and add all the fields
+                             that are important to the headerArray.
+                             */
                         }
 
+                        headerArray.addObject().put("ok", status);
+                        result.setHeaders(headerArray);
+
                         return Mono.just(result);
                     })
                     .onErrorResume(error -> {
@@ -1061,54 +1059,4 @@ public class MongoPlugin extends BasePlugin {
             }
         }
     }
-
-    private static Object cleanUp(Object object) {
-        if (object instanceof JSONObject) {
-            JSONObject jsonObject = (JSONObject) object;
-            final boolean isSingleKey = jsonObject.keySet().size() == 1;
-
-            if (isSingleKey && "$numberLong".equals(jsonObject.keys().next())) {
-                return jsonObject.getBigInteger("$numberLong");
-
-            } else if (isSingleKey && "$oid".equals(jsonObject.keys().next())) {
-                return jsonObject.getString("$oid");
-
-            } else if (isSingleKey && "$date".equals(jsonObject.keys().next())) {
-                JSONObject dateJSON = jsonObject.optJSONObject("$date");
-                /*
-                    For dates before Jan 1, 1970 then the output json from MongoDB driver looks like
-                    "$date": {
-                        "$numberLong": "-493033770000"
-                    }
-                    And for dates on or after Jan 1, 1970 the output json from MongoDB driver is readily available and looks like
-                    "$date": "2022-07-01T10:32:37.318Z"
-                */
-                if (dateJSON != null
-                        && dateJSON.keySet().size() == 1
-                        && "$numberLong".equals(dateJSON.keys().next())) {
-                    return DateTimeFormatter.ISO_INSTANT.format(Instant.ofEpochMilli(dateJSON.getLong("$numberLong")));
-                }
-                return DateTimeFormatter.ISO_INSTANT.format(Instant.parse(jsonObject.getString("$date")));
-
-            } else if (isSingleKey && "$numberDecimal".equals(jsonObject.keys().next())) {
-                return new BigDecimal(jsonObject.getString("$numberDecimal"));
-
-            } else {
-                for (String key : new HashSet<>(jsonObject.keySet())) {
-                    jsonObject.put(key, cleanUp(jsonObject.get(key)));
-                }
-            }
-
-        } else if (object instanceof JSONArray) {
-            Collection<Object> cleaned = new ArrayList<>();
-
-            for (Object child : (JSONArray) object) {
-                cleaned.add(cleanUp(child));
-            }
-
-            return new JSONArray(cleaned);
-        }
-
-        return object;
-    }
 }
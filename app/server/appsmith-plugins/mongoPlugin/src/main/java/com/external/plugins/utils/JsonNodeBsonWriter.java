@@ -0,0 +1,277 @@
+package com.external.plugins.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ContainerNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.bson.AbstractBsonWriter;
+import org.bson.BsonBinary;
+import org.bson.BsonContextType;
+import org.bson.BsonDbPointer;
+import org.bson.BsonRegularExpression;
+import org.bson.BsonTimestamp;
+import org.bson.BsonWriterSettings;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+
+/**
+ * Writes BSON straight into Jackson nodes, so that query results don't have to be printed as extended JSON and parsed
+ * back. Values are written the way they look in the relaxed extended JSON output of the driver, with object ids,
+ * dates, 64-bit integers and decimals simplified to plain strings and numbers, which is the format the Mongo plugin
+ * has always returned.
+ */
+public class JsonNodeBsonWriter extends AbstractBsonWriter {
+
+    private static final JsonNodeFactory NODE_FACTORY = JsonNodeFactory.instance;
+
+    private JsonNode rootNode;
+
+    // The `{"$code": ...}` node of a code with scope value, that its scope document is written into
+    private ObjectNode codeWithScopeNode;
+
+    public JsonNodeBsonWriter() {
+        super(new BsonWriterSettings());
+        setContext(new Context(null, BsonContextType.TOP_LEVEL, null));
+    }
+
+    /**
+     * @return the node of the document that has been written, or null if nothing has been written yet
+     */
+    public JsonNode getRootNode() {
+        return rootNode;
+    }
+
+    @Override
+    public void flush() {}
+
+    @Override
+    protected Context getContext() {
+        return (Context) super.getContext();
+    }
+
+    @Override
+    protected void doWriteStartDocument() {
+        final ObjectNode documentNode;
+        final BsonContextType contextType;
+        if (getState() == State.SCOPE_DOCUMENT) {
+            documentNode = codeWithScopeNode.putObject("$scope");
+            contextType = BsonContextType.SCOPE_DOCUMENT;
+        } else {
+            documentNode = NODE_FACTORY.objectNode();
+            contextType = BsonContextType.DOCUMENT;
+            writeNode(documentNode);
+        }
+        setContext(new Context(getContext(), contextType, documentNode));
+    }
+
+    @Override
+    protected void doWriteEndDocument() {
+        setContext(getContext().getParentContext());
+    }
+
+    @Override
+    protected void doWriteStartArray() {
+        final ArrayNode arrayNode = NODE_FACTORY.arrayNode();
+        writeNode(arrayNode);
+        setContext(new Context(getContext(), BsonContextType.ARRAY, arrayNode));
+    }
+
+    @Override
+    protected void doWriteEndArray() {
+        setContext(getContext().getParentContext());
+    }
+
+    @Override
+    protected void doWriteBinaryData(BsonBinary value) {
+        final ObjectNode binaryNode = NODE_FACTORY.objectNode();
+        binaryNode
+                .putObject("$binary")
+                .put("base64", Base64.getEncoder().encodeToString(value.getData()))
+                .put("subType", String.format("%02X", value.getType()));
+        writeNode(binaryNode);
+    }
+
+    @Override
+    protected void doWriteBoolean(boolean value) {
+        writeNode(NODE_FACTORY.booleanNode(value));
+    }
+
+    @Override
+    protected void doWriteDateTime(long value) {
+        writeNode(NODE_FACTORY.textNode(DateTimeFormatter.ISO_INSTANT.format(Instant.ofEpochMilli(value))));
+    }
+
+    @Override
+    protected void doWriteDBPointer(BsonDbPointer value) {
+        final ObjectNode dbPointerNode = NODE_FACTORY.objectNode();
+        dbPointerNode
+                .putObject("$dbPointer")
+                .put("$ref", value.getNamespace())
+                .put("$id", value.getId().toHexString());
+        writeNode(dbPointerNode);
+    }
+
+    @Override
+    protected void doWriteDouble(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            writeNode(NODE_FACTORY.objectNode().put("$numberDouble", Double.toString(value)));
+        } else if (value == Math.rint(value) && Math.abs(value) < 1e7) {
+            // Whole numbers have always been returned without a fraction, as long as they are not printed in
+            // scientific notation
+            writeNode(integerNode((long) value));
+        } else {
+            writeNode(NODE_FACTORY.numberNode(value));
+        }
+    }
+
+    @Override
+    protected void doWriteInt32(int value) {
+        writeNode(NODE_FACTORY.numberNode(value));
+    }
+
+    @Override
+    protected void doWriteInt64(long value) {
+        writeNode(integerNode(value));
+    }
+
+    @Override
+    protected void doWriteDecimal128(Decimal128 value) {
+        if (value.isNaN() || value.isInfinite()) {
+            writeNode(NODE_FACTORY.objectNode().put("$numberDecimal", value.toString()));
+        } else {
+            writeNode(decimalNode(value.bigDecimalValue().toString()));
+        }
+    }
+
+    @Override
+    protected void doWriteJavaScript(String value) {
+        writeNode(NODE_FACTORY.objectNode().put("$code", value));
+    }
+
+    @Override
+    protected void doWriteJavaScriptWithScope(String value) {
+        codeWithScopeNode = NODE_FACTORY.objectNode().put("$code", value);
+        writeNode(codeWithScopeNode);
+    }
+
+    @Override
+    protected void doWriteMaxKey() {
+        writeNode(NODE_FACTORY.objectNode().put("$maxKey", 1));
+    }
+
+    @Override
+    protected void doWriteMinKey() {
+        writeNode(NODE_FACTORY.objectNode().put("$minKey", 1));
+    }
+
+    @Override
+    protected void doWriteNull() {
+        writeNode(NODE_FACTORY.nullNode());
+    }
+
+    @Override
+    protected void doWriteObjectId(ObjectId value) {
+        writeNode(NODE_FACTORY.textNode(value.toHexString()));
+    }
+
+    @Override
+    protected void doWriteRegularExpression(BsonRegularExpression value) {
+        final ObjectNode regexNode = NODE_FACTORY.objectNode();
+        regexNode
+                .putObject("$regularExpression")
+                .put("pattern", value.getPattern())
+                .put("options", value.getOptions());
+        writeNode(regexNode);
+    }
+
+    @Override
+    protected void doWriteString(String value) {
+        writeNode(NODE_FACTORY.textNode(value));
+    }
+
+    @Override
+    protected void doWriteSymbol(String value) {
+        writeNode(NODE_FACTORY.objectNode().put("$symbol", value));
+    }
+
+    @Override
+    protected void doWriteTimestamp(BsonTimestamp value) {
+        final ObjectNode timestampNode = NODE_FACTORY.objectNode();
+        final ObjectNode timestampValueNode = timestampNode.putObject("$timestamp");
+        timestampValueNode.set("t", integerNode(Integer.toUnsignedLong(value.getTime())));
+        timestampValueNode.set("i", integerNode(Integer.toUnsignedLong(value.getInc())));
+        writeNode(timestampNode);
+    }
+
+    @Override
+    protected void doWriteUndefined() {
+        writeNode(NODE_FACTORY.objectNode().put("$undefined", true));
+    }
+
+    private void writeNode(JsonNode node) {
+        final ContainerNode<?> container = getContext().container;
+        if (container instanceof ObjectNode objectNode) {
+            objectNode.set(getName(), node);
+        } else if (container instanceof ArrayNode arrayNode) {
+            arrayNode.add(node);
+        } else {
+            rootNode = node;
+        }
+    }
+
+    private static JsonNode integerNode(long value) {
+        if (value == (int) value) {
+            return NODE_FACTORY.numberNode((int) value);
+        }
+        return NODE_FACTORY.numberNode(value);
+    }
+
+    /**
+     * Decimals were printed with their trailing zeros removed, and then read as a double, or as an integer if no
+     * fraction was left.
+     */
+    private static JsonNode decimalNode(String value) {
+        String number = value;
+        if (number.indexOf('.') > 0 && number.indexOf('e') < 0 && number.indexOf('E') < 0) {
+            int end = number.length();
+            while (number.charAt(end - 1) == '0') {
+                end--;
+            }
+            if (number.charAt(end - 1) == '.') {
+                end--;
+            }
+            number = number.substring(0, end);
+        }
+
+        if (number.indexOf('.') >= 0 || number.indexOf('e') >= 0 || number.indexOf('E') >= 0) {
+            return NODE_FACTORY.numberNode(Double.parseDouble(number));
+        }
+
+        final BigInteger integer = new BigInteger(number);
+        if (integer.bitLength() < Long.SIZE) {
+            return integerNode(integer.longValue());
+        }
+        return NODE_FACTORY.numberNode(integer);
+    }
+
+    private class Context extends AbstractBsonWriter.Context {
+
+        private final ContainerNode<?> container;
+
+        Context(Context parentContext, BsonContextType contextType, ContainerNode<?> container) {
+            super(parentContext, contextType);
+            this.container = container;
+        }
+
+        @Override
+        public Context getParentContext() {
+            return (Context) super.getParentContext();
+        }
+    }
+}
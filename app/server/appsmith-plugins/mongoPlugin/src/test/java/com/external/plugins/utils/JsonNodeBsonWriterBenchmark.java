@@ -0,0 +1,91 @@
+package com.external.plugins.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.bson.Document;
+import org.bson.codecs.DocumentCodec;
+import org.bson.codecs.EncoderContext;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares converting the output of a find command with 10k documents by printing it as extended JSON and parsing it
+ * back, against writing it straight into Jackson nodes. Run it with the `main` method, after compiling the test
+ * classes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class JsonNodeBsonWriterBenchmark {
+
+    private static final int DOCUMENT_COUNT = 10_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final DocumentCodec documentCodec = new DocumentCodec();
+
+    private Document findOutput;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        List<Document> documents = new ArrayList<>(DOCUMENT_COUNT);
+        for (int i = 0; i < DOCUMENT_COUNT; i++) {
+            documents.add(new Document("_id", new ObjectId())
+                    .append("name", "User " + i)
+                    .append("email", "user" + i + "@example.com")
+                    .append("age", 20 + i % 50)
+                    .append("balance", new Decimal128(new BigDecimal(i + ".25")))
+                    .append("createdAt", new Date(1656671557318L + i))
+                    .append("address", new Document("city", "City " + i % 100).append("zip", 10_000L + i))
+                    .append("tags", List.of("tag" + i % 10, "tag" + i % 7)));
+        }
+        findOutput = new Document("cursor", new Document("firstBatch", documents).append("id", 0L)).append("ok", 1.0);
+    }
+
+    @Benchmark
+    public JsonNode viaJsonString() throws JsonProcessingException {
+        JSONObject outputJson = new JSONObject(findOutput.toJson(documentCodec));
+        return objectMapper.readTree(
+                outputJson.getJSONObject("cursor").getJSONArray("firstBatch").toString());
+    }
+
+    @Benchmark
+    public JsonNode viaJsonNodeWriter() {
+        JsonNodeBsonWriter writer = new JsonNodeBsonWriter();
+        documentCodec.encode(writer, findOutput, EncoderContext.builder().build());
+        return writer.getRootNode().get("cursor").get("firstBatch");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(JsonNodeBsonWriterBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
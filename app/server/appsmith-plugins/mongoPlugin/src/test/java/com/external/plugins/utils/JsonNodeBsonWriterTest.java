@@ -0,0 +1,87 @@
+package com.external.plugins.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.bson.BsonBinary;
+import org.bson.BsonTimestamp;
+import org.bson.Document;
+import org.bson.codecs.DocumentCodec;
+import org.bson.codecs.EncoderContext;
+import org.bson.types.Code;
+import org.bson.types.CodeWithScope;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class JsonNodeBsonWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testWrite_withSpecialTypes_simplifiesThemToPlainValues() throws Exception {
+        Document document = new Document("_id", new ObjectId("62bec3d97e5e1d3a4a1b9a1c"))
+                .append("name", "Ram singh")
+                .append("createdAt", new Date(1656671557318L))
+                .append("bornOn", new Date(-493033770000L))
+                .append("age", 40)
+                .append("views", 3_000_000_000L)
+                .append("score", 12.0)
+                .append("ratio", 0.25)
+                .append("price", new Decimal128(new BigDecimal("10.50")))
+                .append("verified", true)
+                .append("deletedAt", null)
+                .append("tags", List.of("a", new Document("nested", List.of(1, 2))));
+
+        JsonNode expected = objectMapper.readTree(
+                """
+                {
+                    "_id": "62bec3d97e5e1d3a4a1b9a1c",
+                    "name": "Ram singh",
+                    "createdAt": "2022-07-01T10:32:37.318Z",
+                    "bornOn": "1954-05-18T14:10:30Z",
+                    "age": 40,
+                    "views": 3000000000,
+                    "score": 12,
+                    "ratio": 0.25,
+                    "price": 10.5,
+                    "verified": true,
+                    "deletedAt": null,
+                    "tags": ["a", {"nested": [1, 2]}]
+                }""");
+
+        assertEquals(expected, write(document));
+    }
+
+    @Test
+    void testWrite_withExtendedJsonTypes_writesThemInRelaxedFormat() throws Exception {
+        Document document = new Document("binary", new BsonBinary(new byte[] {1, 2, 3}))
+                .append("timestamp", new BsonTimestamp(1656671557, 1))
+                .append("notANumber", Double.NaN)
+                .append("code", new Code("return 1;"))
+                .append("codeWithScope", new CodeWithScope("return x;", new Document("x", 1)));
+
+        JsonNode expected = objectMapper.readTree(
+                """
+                {
+                    "binary": {"$binary": {"base64": "AQID", "subType": "00"}},
+                    "timestamp": {"$timestamp": {"t": 1656671557, "i": 1}},
+                    "notANumber": {"$numberDouble": "NaN"},
+                    "code": {"$code": "return 1;"},
+                    "codeWithScope": {"$code": "return x;", "$scope": {"x": 1}}
+                }""");
+
+        assertEquals(expected, write(document));
+    }
+
+    private JsonNode write(Document document) {
+        JsonNodeBsonWriter writer = new JsonNodeBsonWriter();
+        new DocumentCodec().encode(writer, document, EncoderContext.builder().build());
+        return writer.getRootNode();
+    }
+}
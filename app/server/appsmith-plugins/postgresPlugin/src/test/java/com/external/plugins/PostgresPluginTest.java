@@ -75,6 +75,16 @@ public class PostgresPluginTest {
         public String getRemoteExecutionUrl() {
             return "";
         }
+
+        @Override
+        public int getRestApiMaxConnections() {
+            return 500;
+        }
+
+        @Override
+        public int getRestApiMaxPendingAcquires() {
+            return 1000;
+        }
     }
 
     PostgresPlugin.PostgresPluginExecutor pluginExecutor =
@@ -96,6 +96,16 @@ public class RestApiPluginTest {
         public String getRemoteExecutionUrl() {
             return "";
         }
+
+        @Override
+        public int getRestApiMaxConnections() {
+            return 500;
+        }
+
+        @Override
+        public int getRestApiMaxPendingAcquires() {
+            return 1000;
+        }
     }
 
     RestApiPlugin.RestApiPluginExecutor pluginExecutor =
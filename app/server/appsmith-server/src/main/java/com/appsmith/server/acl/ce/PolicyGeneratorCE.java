@@ -5,6 +5,7 @@ import com.appsmith.external.models.Policy;
 import com.appsmith.server.acl.AclPermission;
 import com.google.common.collect.Sets;
 import jakarta.annotation.PostConstruct;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
@@ -15,7 +16,9 @@ import org.jgrapht.traverse.DepthFirstIterator;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -80,6 +83,22 @@ public class PolicyGeneratorCE {
      */
     protected Graph<AclPermission, DefaultEdge> lateralGraph = new DirectedAcyclicGraph<>(DefaultEdge.class);
 
+    /**
+     * Permissions derived from a permission for documents of a given entity, as read from the graphs above. These are
+     * computed once the graphs are complete, so that deriving policies for new documents doesn't walk the graphs.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private Map<AclPermission, Map<Class<? extends BaseDomain>, Set<AclPermission>>> childPermissionsByEntity;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private Map<AclPermission, Map<Class<? extends BaseDomain>, Set<AclPermission>>> lateralPermissionsByEntity;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private Map<Class<? extends BaseDomain>, Map<String, AclPermission>> permissionsByEntityAndValue;
+
     @PostConstruct
     public void createPolicyGraph() {
 
@@ -89,6 +108,60 @@ public class PolicyGeneratorCE {
         createPolicyGraphForEachType();
 
         addLateralEdgesForAllIndirectRelationships();
+
+        computePermissionLookupTables();
+    }
+
+    protected void computePermissionLookupTables() {
+        Map<AclPermission, Map<Class<? extends BaseDomain>, Set<AclPermission>>> lateralPermissions =
+                new EnumMap<>(AclPermission.class);
+        Map<AclPermission, Map<Class<? extends BaseDomain>, Set<AclPermission>>> childPermissions =
+                new EnumMap<>(AclPermission.class);
+        Map<Class<? extends BaseDomain>, Map<String, AclPermission>> permissionsByValue = new HashMap<>();
+
+        for (AclPermission permission : AclPermission.values()) {
+            Map<Class<? extends BaseDomain>, Set<AclPermission>> lateralPermissionsOfPermission = new HashMap<>();
+            for (DefaultEdge edge : lateralGraph.outgoingEdgesOf(permission)) {
+                AclPermission lateralPermission = lateralGraph.getEdgeTarget(edge);
+                lateralPermissionsOfPermission
+                        .computeIfAbsent(lateralPermission.getEntity(), entity -> EnumSet.noneOf(AclPermission.class))
+                        .add(lateralPermission);
+            }
+            lateralPermissions.put(permission, lateralPermissionsOfPermission);
+
+            permissionsByValue
+                    .computeIfAbsent(permission.getEntity(), entity -> new HashMap<>())
+                    .putIfAbsent(permission.getValue(), permission);
+        }
+
+        for (AclPermission permission : AclPermission.values()) {
+            Map<Class<? extends BaseDomain>, Set<AclPermission>> childPermissionsOfPermission = new HashMap<>();
+            for (DefaultEdge edge : hierarchyGraph.outgoingEdgesOf(permission)) {
+                AclPermission childPermission = hierarchyGraph.getEdgeTarget(edge);
+                childPermissionsOfPermission
+                        .computeIfAbsent(childPermission.getEntity(), entity -> EnumSet.noneOf(AclPermission.class))
+                        .add(childPermission);
+                lateralPermissions
+                        .get(childPermission)
+                        .forEach((entity, lateralPermissionsOfChild) -> childPermissionsOfPermission
+                                .computeIfAbsent(entity, key -> EnumSet.noneOf(AclPermission.class))
+                                .addAll(lateralPermissionsOfChild));
+            }
+            childPermissions.put(permission, childPermissionsOfPermission);
+        }
+
+        lateralPermissionsByEntity = toUnmodifiableLookupTable(lateralPermissions);
+        childPermissionsByEntity = toUnmodifiableLookupTable(childPermissions);
+        permissionsByEntityAndValue = Collections.unmodifiableMap(permissionsByValue);
+    }
+
+    private static Map<AclPermission, Map<Class<? extends BaseDomain>, Set<AclPermission>>> toUnmodifiableLookupTable(
+            Map<AclPermission, Map<Class<? extends BaseDomain>, Set<AclPermission>>> lookupTable) {
+        lookupTable.replaceAll((permission, permissionsByEntity) -> {
+            permissionsByEntity.replaceAll((entity, permissions) -> Collections.unmodifiableSet(permissions));
+            return Collections.unmodifiableMap(permissionsByEntity);
+        });
+        return Collections.unmodifiableMap(lookupTable);
     }
 
     protected void addVertices() {
@@ -240,16 +313,21 @@ public class PolicyGeneratorCE {
 
     public Set<Policy> getLateralPolicies(
             AclPermission permission, Set<String> permissionGroups, Class<? extends BaseDomain> destinationEntity) {
+        if (destinationEntity != null) {
+            return lateralPermissionsByEntity
+                    .get(permission)
+                    .getOrDefault(destinationEntity, Collections.emptySet())
+                    .stream()
+                    .map(lateralPermission -> Policy.builder()
+                            .permission(lateralPermission.getValue())
+                            .permissionGroups(permissionGroups)
+                            .build())
+                    .collect(Collectors.toSet());
+        }
+
         Set<DefaultEdge> lateralEdges = lateralGraph.outgoingEdgesOf(permission);
         return lateralEdges.stream()
                 .map(edge -> lateralGraph.getEdgeTarget(edge))
-                .filter(lateralPermission -> {
-                    if (destinationEntity == null
-                            || lateralPermission.getEntity().equals(destinationEntity)) {
-                        return true;
-                    }
-                    return false;
-                })
                 .map(lateralPermission -> Policy.builder()
                         .permission(lateralPermission.getValue())
                         .permissionGroups(permissionGroups)
@@ -280,22 +358,25 @@ public class PolicyGeneratorCE {
         if (policy.getPermissionGroups() == null) {
             policy.setPermissionGroups(new HashSet<>());
         }
-        // Check the hierarchy graph to derive child permissions that must be given to this
-        // document
+
+        if (destinationEntity != null) {
+            return childPermissionsByEntity
+                    .get(aclPermission)
+                    .getOrDefault(destinationEntity, Collections.emptySet())
+                    .stream()
+                    .map(childPermission -> Policy.builder()
+                            .permission(childPermission.getValue())
+                            .permissionGroups(policy.getPermissionGroups())
+                            .build())
+                    .collect(Collectors.toSet());
+        }
+
+        // Without a destination entity, only the lateral permissions of the child permissions apply
         Set<Policy> childPolicySet = new HashSet<>();
         Set<DefaultEdge> edges = hierarchyGraph.outgoingEdgesOf(aclPermission);
         for (DefaultEdge edge : edges) {
             AclPermission childPermission = hierarchyGraph.getEdgeTarget(edge);
-
-            if (childPermission.getEntity().equals(destinationEntity)) {
-                childPolicySet.add(Policy.builder()
-                        .permission(childPermission.getValue())
-                        .permissionGroups(policy.getPermissionGroups())
-                        .build());
-            }
-
-            // Check the lateral graph to derive the child permissions that must be given to this document
-            childPolicySet.addAll(getLateralPolicies(childPermission, policy.getPermissionGroups(), destinationEntity));
+            childPolicySet.addAll(getLateralPolicies(childPermission, policy.getPermissionGroups(), null));
         }
 
         return childPolicySet;
@@ -305,16 +386,47 @@ public class PolicyGeneratorCE {
             Set<Policy> policySet,
             Class<? extends BaseDomain> sourceEntity,
             Class<? extends BaseDomain> destinationEntity) {
-        Set<Policy> policies = policySet.stream()
-                .map(policy -> {
-                    AclPermission aclPermission =
-                            AclPermission.getPermissionByValue(policy.getPermission(), sourceEntity);
-                    // Get all the child policies for the given policy and aclPermission
-                    return getChildPolicies(policy, aclPermission, destinationEntity);
-                })
-                .flatMap(Collection::stream)
+        if (destinationEntity == null) {
+            return mergePolicies(policySet.stream()
+                    .map(policy -> getChildPolicies(
+                            policy,
+                            AclPermission.getPermissionByValue(policy.getPermission(), sourceEntity),
+                            destinationEntity))
+                    .flatMap(Collection::stream)
+                    .collect(Collectors.toSet()));
+        }
+
+        // Collect the permission groups of every derived permission straight from the lookup tables, without building
+        // an intermediate policy for each pair of source and derived permission
+        Map<String, AclPermission> permissionsByValue =
+                permissionsByEntityAndValue.getOrDefault(sourceEntity, Collections.emptyMap());
+        Map<AclPermission, Set<String>> permissionGroupsByChildPermission = new EnumMap<>(AclPermission.class);
+        for (Policy policy : policySet) {
+            AclPermission aclPermission = permissionsByValue.get(policy.getPermission());
+            if (aclPermission == null) {
+                continue;
+            }
+
+            Set<AclPermission> childPermissions =
+                    childPermissionsByEntity.get(aclPermission).getOrDefault(destinationEntity, Collections.emptySet());
+            for (AclPermission childPermission : childPermissions) {
+                Set<String> permissionGroups = permissionGroupsByChildPermission.computeIfAbsent(
+                        childPermission, permission -> new HashSet<>());
+                if (policy.getPermissionGroups() != null) {
+                    permissionGroups.addAll(policy.getPermissionGroups());
+                }
+            }
+        }
+
+        return permissionGroupsByChildPermission.entrySet().stream()
+                .map(entry -> Policy.builder()
+                        .permission(entry.getKey().getValue())
+                        .permissionGroups(entry.getValue())
+                        .build())
                 .collect(Collectors.toSet());
+    }
 
+    private Set<Policy> mergePolicies(Set<Policy> policies) {
         Map<String, Policy> policyMap = new LinkedHashMap<>();
 
         for (Policy policy : policies) {
@@ -0,0 +1,23 @@
+package com.appsmith.server.configurations;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+public class DatasourceContextConfig {
+
+    // Maximum number of datasource contexts (connections / pools) kept open at once across all datasources
+    @Value("${appsmith.datasource.context.max-count:500}")
+    private int maxCount;
+
+    // Datasource contexts that were not used for these many minutes get closed
+    @Value("${appsmith.datasource.context.idle-timeout-minutes:30}")
+    private long idleTimeoutMinutes;
+
+    // Connections of evicted contexts stay open for these many seconds after the context was last handed out, so that
+    // queries still running on them can complete
+    @Value("${appsmith.datasource.context.eviction-grace-seconds:300}")
+    private long evictionGraceSeconds;
+}
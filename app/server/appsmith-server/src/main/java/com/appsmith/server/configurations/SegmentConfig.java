@@ -28,6 +28,10 @@ public class SegmentConfig {
     @Value("${segment.ce.key}")
     private String ceKey;
 
+    // Maximum number of analytics events waiting to be handed over to Segment, new events are dropped beyond this
+    @Value("${segment.queue.capacity:10000}")
+    private int queueCapacity;
+
     private final CommonConfig commonConfig;
 
     @Autowired
@@ -76,6 +80,10 @@ public class SegmentConfig {
         return ceKey;
     }
 
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
     private static class LogProcessor implements Log {
         private Consumer<LogData> errorHandler = null;
 
@@ -17,6 +17,12 @@ public class SharedConfigImpl implements SharedConfig {
     @Value("${appsmith.plugin.response.size.max:5}")
     private float maxPluginResponseSize = 5;
 
+    @Value("${appsmith.plugin.rest-api.max-connections:500}")
+    private int restApiMaxConnections;
+
+    @Value("${appsmith.plugin.rest-api.max-pending-acquires:1000}")
+    private int restApiMaxPendingAcquires;
+
     private final CloudServicesConfig cloudServicesConfig;
 
     @Override
@@ -33,4 +39,14 @@ public class SharedConfigImpl implements SharedConfig {
     public String getRemoteExecutionUrl() {
         return cloudServicesConfig.getBaseUrl() + "/api/v1/actions/execute";
     }
+
+    @Override
+    public int getRestApiMaxConnections() {
+        return this.restApiMaxConnections;
+    }
+
+    @Override
+    public int getRestApiMaxPendingAcquires() {
+        return this.restApiMaxPendingAcquires;
+    }
 }
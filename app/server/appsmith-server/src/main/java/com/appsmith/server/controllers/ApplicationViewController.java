@@ -0,0 +1,16 @@
+package com.appsmith.server.controllers;
+
+import com.appsmith.server.constants.Url;
+import com.appsmith.server.controllers.ce.ApplicationViewControllerCE;
+import com.appsmith.server.services.ApplicationViewService;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping(Url.APPLICATION_URL)
+public class ApplicationViewController extends ApplicationViewControllerCE {
+
+    public ApplicationViewController(ApplicationViewService service) {
+        super(service);
+    }
+}
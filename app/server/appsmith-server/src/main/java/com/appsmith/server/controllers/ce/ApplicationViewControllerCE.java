@@ -0,0 +1,47 @@
+package com.appsmith.server.controllers.ce;
+
+import com.appsmith.external.views.Views;
+import com.appsmith.server.constants.FieldName;
+import com.appsmith.server.constants.Url;
+import com.appsmith.server.dtos.ApplicationViewDTO;
+import com.appsmith.server.dtos.ResponseDTO;
+import com.appsmith.server.services.ApplicationViewService;
+import com.fasterxml.jackson.annotation.JsonView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+@RequestMapping(Url.APPLICATION_URL)
+public class ApplicationViewControllerCE {
+
+    private final ApplicationViewService service;
+
+    /**
+     * Fetches everything needed to open a published application in one request. Responds with 304 Not Modified when
+     * the client already has the current version of the view, as identified by the ETag of an earlier response.
+     */
+    @JsonView(Views.Public.class)
+    @GetMapping("/view/{defaultApplicationId}/bootstrap")
+    public Mono<ResponseDTO<ApplicationViewDTO>> getApplicationView(
+            @PathVariable String defaultApplicationId,
+            @RequestHeader(name = FieldName.BRANCH_NAME, required = false) String branchName,
+            ServerWebExchange exchange) {
+        return service.getApplicationView(defaultApplicationId, branchName).flatMap(applicationViewDTO -> {
+            // The view depends on the permissions of the user, so it must be revalidated before being reused
+            exchange.getResponse()
+                    .getHeaders()
+                    .setCacheControl(CacheControl.noCache().cachePrivate());
+            if (exchange.checkNotModified(applicationViewDTO.getETag())) {
+                return Mono.empty();
+            }
+            return Mono.just(new ResponseDTO<>(HttpStatus.OK.value(), applicationViewDTO, null));
+        });
+    }
+}
@@ -21,6 +21,7 @@ import com.fasterxml.jackson.annotation.JsonView;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.codec.multipart.Part;
@@ -212,6 +213,8 @@ public class UserControllerCE extends BaseController<UserService, User, String>
     @JsonView(Views.Public.class)
     @GetMapping("/photo")
     public Mono<Void> getProfilePhoto(ServerWebExchange exchange) {
+        // The photo behind this URL changes when the user uploads a new one, so it must always be revalidated
+        exchange.getResponse().getHeaders().set(HttpHeaders.CACHE_CONTROL, "no-cache");
         return userDataService.makeProfilePhotoResponse(exchange).switchIfEmpty(Mono.fromRunnable(() -> {
             exchange.getResponse().setStatusCode(HttpStatus.NOT_FOUND);
         }));
@@ -220,6 +223,7 @@ public class UserControllerCE extends BaseController<UserService, User, String>
     @JsonView(Views.Public.class)
     @GetMapping("/photo/{email}")
     public Mono<Void> getProfilePhoto(ServerWebExchange exchange, @PathVariable String email) {
+        exchange.getResponse().getHeaders().set(HttpHeaders.CACHE_CONTROL, "no-cache");
         return userDataService.makeProfilePhotoResponse(exchange, email).switchIfEmpty(Mono.fromRunnable(() -> {
             exchange.getResponse().setStatusCode(HttpStatus.NOT_FOUND);
         }));
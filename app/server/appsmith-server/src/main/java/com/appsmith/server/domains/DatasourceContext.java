@@ -1,5 +1,6 @@
 package com.appsmith.server.domains;
 
+import com.appsmith.external.plugins.PluginExecutor;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
@@ -14,7 +15,15 @@ public class DatasourceContext<T> {
 
     Instant creationTime;
 
+    // Last time this context was handed out, used to close contexts that have been idle for too long
+    volatile Instant lastAccessedTime;
+
+    // Executor of the plugin that created the connection, used to destroy it when the context is evicted
+    @ToString.Exclude
+    PluginExecutor<Object> pluginExecutor;
+
     public DatasourceContext() {
         creationTime = Instant.now();
+        lastAccessedTime = creationTime;
     }
 }
@@ -0,0 +1,42 @@
+package com.appsmith.server.dtos;
+
+import com.appsmith.external.views.Views;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.CustomJSLib;
+import com.appsmith.server.domains.Theme;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonView;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Everything the viewer needs to render a published application, fetched in one request.
+ */
+@Getter
+@Setter
+public class ApplicationViewDTO {
+
+    @JsonView(Views.Public.class)
+    Application application;
+
+    @JsonView(Views.Public.class)
+    ApplicationPagesDTO pages;
+
+    @JsonView(Views.Public.class)
+    List<ActionViewDTO> actions;
+
+    @JsonView(Views.Public.class)
+    List<ActionCollectionViewDTO> actionCollections;
+
+    @JsonView(Views.Public.class)
+    List<CustomJSLib> customJSLibs;
+
+    @JsonView(Views.Public.class)
+    Theme theme;
+
+    // Identifies the published version of the application, as seen by the set of permission groups that fetched it
+    @JsonIgnore
+    String eTag;
+}
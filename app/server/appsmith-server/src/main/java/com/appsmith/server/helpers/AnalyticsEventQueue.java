@@ -0,0 +1,139 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.server.configurations.SegmentConfig;
+import com.segment.analytics.Analytics;
+import com.segment.analytics.messages.MessageBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Bounded queue of analytics events between the request chains that raise them and the Segment client. Adding an event
+ * never blocks, and when the queue is full the event is dropped. Events are handed over to Segment in batches, on a
+ * separate thread, so the time taken by analytics doesn't add to the latency of requests.
+ */
+@Slf4j
+@Component
+public class AnalyticsEventQueue {
+
+    private static final int MAX_BATCH_SIZE = 100;
+
+    private final Analytics analytics;
+
+    private final BlockingQueue<QueuedEvent> events;
+
+    private final AtomicBoolean isDrainRunning = new AtomicBoolean(false);
+
+    private final Counter droppedCounter;
+
+    private final Counter coalescedCounter;
+
+    private final Counter sentCounter;
+
+    public AnalyticsEventQueue(
+            @Autowired(required = false) Analytics analytics,
+            SegmentConfig segmentConfig,
+            MeterRegistry meterRegistry) {
+        this.analytics = analytics;
+        this.events = new ArrayBlockingQueue<>(segmentConfig.getQueueCapacity());
+
+        Gauge.builder("appsmith.analytics.queue.size", events, Collection::size).register(meterRegistry);
+        droppedCounter = meterRegistry.counter("appsmith.analytics.events", "result", "dropped");
+        coalescedCounter = meterRegistry.counter("appsmith.analytics.events", "result", "coalesced");
+        sentCounter = meterRegistry.counter("appsmith.analytics.events", "result", "sent");
+    }
+
+    public void enqueue(MessageBuilder<?, ?> messageBuilder) {
+        offer(new QueuedEvent(messageBuilder, null));
+    }
+
+    /**
+     * Queues an identify message. Identify messages set the traits of a user, so if several of them are waiting for the
+     * same user, only the latest one is sent.
+     */
+    public void enqueueIdentify(String userId, MessageBuilder<?, ?> messageBuilder) {
+        offer(new QueuedEvent(messageBuilder, userId));
+    }
+
+    private void offer(QueuedEvent event) {
+        if (analytics == null) {
+            return;
+        }
+
+        if (!events.offer(event)) {
+            droppedCounter.increment();
+            log.debug("Analytics event queue is full, dropping event");
+            return;
+        }
+
+        scheduleDrain();
+    }
+
+    private void scheduleDrain() {
+        if (isDrainRunning.compareAndSet(false, true)) {
+            Mono.fromRunnable(this::drainEvents)
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .subscribe();
+        }
+    }
+
+    private void drainEvents() {
+        try {
+            final List<QueuedEvent> batch = new ArrayList<>(MAX_BATCH_SIZE);
+            while (events.drainTo(batch, MAX_BATCH_SIZE) > 0) {
+                sendBatch(batch);
+                batch.clear();
+            }
+        } catch (RuntimeException e) {
+            log.error("Error while sending analytics events", e);
+        } finally {
+            isDrainRunning.set(false);
+        }
+
+        // An event may have been added after the last drain, but before the flag was reset
+        if (!events.isEmpty()) {
+            scheduleDrain();
+        }
+    }
+
+    private void sendBatch(List<QueuedEvent> batch) {
+        final Map<Object, QueuedEvent> coalescedEvents = new LinkedHashMap<>();
+        for (QueuedEvent event : batch) {
+            // Track events are all kept, keyed by themselves, while identify messages are keyed by their user
+            final Object key = event.identifyUserId() == null ? event : event.identifyUserId();
+            if (coalescedEvents.remove(key) != null) {
+                coalescedCounter.increment();
+            }
+            coalescedEvents.put(key, event);
+        }
+
+        boolean hasIdentifyMessages = false;
+        for (QueuedEvent event : coalescedEvents.values()) {
+            sentCounter.increment();
+            analytics.enqueue(event.messageBuilder());
+            hasIdentifyMessages |= event.identifyUserId() != null;
+        }
+
+        // Identify messages were flushed as soon as they were sent, so that the user's traits are available for the
+        // events that follow
+        if (hasIdentifyMessages) {
+            analytics.flush();
+        }
+    }
+
+    private record QueuedEvent(MessageBuilder<?, ?> messageBuilder, String identifyUserId) {}
+}
@@ -1,39 +1,67 @@
 package com.appsmith.server.ratelimiting;
 
 import com.appsmith.server.constants.RateLimitConstants;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.BucketConfiguration;
 import io.github.bucket4j.Refill;
 import io.github.bucket4j.distributed.BucketProxy;
 import io.github.bucket4j.distributed.ExpirationAfterWriteStrategy;
+import io.github.bucket4j.distributed.proxy.optimization.DelayParameters;
+import io.github.bucket4j.distributed.proxy.optimization.Optimization;
+import io.github.bucket4j.distributed.proxy.optimization.Optimizations;
 import io.github.bucket4j.redis.lettuce.cas.LettuceBasedProxyManager;
 import io.lettuce.core.AbstractRedisClient;
 import io.lettuce.core.RedisClient;
 import io.lettuce.core.cluster.RedisClusterClient;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
 
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
 
+@Slf4j
 @Configuration
 public class RateLimitConfig {
-    private static final Map<String, BucketConfiguration> apiConfigurations = new HashMap<>();
+    private final Map<String, BucketConfiguration> apiConfigurations = new HashMap<>();
+
+    /*
+     Each pod may hand out this fraction of an API's limit from its local copy of a bucket before synchronizing with
+     Redis. APIs with limits too small to split this way, like login, are synchronized on every request but concurrent
+     requests for the same bucket still share one Redis round trip.
+    */
+    private static final int UNSYNCHRONIZED_TOKENS_DIVISOR = 10;
+    private static final Duration MAX_UNSYNCHRONIZED_DURATION = Duration.ofSeconds(1);
+
+    // Used for APIs without a configured limit, so that asking for their bucket doesn't fail the request
+    private static final BucketConfiguration DEFAULT_API_CONFIGURATION =
+            createBucketConfiguration(Duration.ofDays(1), 5);
 
     @Autowired
     private final AbstractRedisClient redisClient;
 
-    public RateLimitConfig(AbstractRedisClient redisClient) {
+    // User specific buckets, so that we don't rebuild a bucket proxy and look its configuration up on every request
+    private final Cache<String, BucketProxy> userSpecificBuckets;
+
+    public RateLimitConfig(
+            AbstractRedisClient redisClient,
+            @Value("${appsmith.ratelimit.apis:}") String apiLimits,
+            @Value("${appsmith.ratelimit.local-bucket.max-count:100000}") long localBucketMaxCount,
+            @Value("${appsmith.ratelimit.local-bucket.idle-timeout-minutes:60}") long localBucketIdleTimeoutMinutes) {
         this.redisClient = redisClient;
-    }
+        this.userSpecificBuckets = Caffeine.newBuilder()
+                .maximumSize(localBucketMaxCount)
+                .expireAfterAccess(Duration.ofMinutes(localBucketIdleTimeoutMinutes))
+                .build();
 
-    static {
-        apiConfigurations.put(
-                RateLimitConstants.BUCKET_KEY_FOR_LOGIN_API, createBucketConfiguration(Duration.ofDays(1), 5));
-        // Add more API configurations as needed
+        apiConfigurations.put(RateLimitConstants.BUCKET_KEY_FOR_LOGIN_API, DEFAULT_API_CONFIGURATION);
+        addApiConfigurations(apiLimits);
     }
 
     @Bean
@@ -68,12 +96,56 @@ public class RateLimitConfig {
 
     public BucketProxy getOrCreateAPIUserSpecificBucket(String apiIdentifier, String userId) {
         String bucketIdentifier = apiIdentifier + userId;
-        Optional<BucketConfiguration> bucketProxy = proxyManager().getProxyConfiguration(bucketIdentifier.getBytes());
-        if (bucketProxy.isPresent()) {
-            return proxyManager().builder().build(bucketIdentifier.getBytes(), bucketProxy.get());
+        return userSpecificBuckets.get(bucketIdentifier, key -> {
+            BucketConfiguration configuration = getApiConfiguration(apiIdentifier);
+            // The configuration is only used when the bucket doesn't exist in Redis yet, so this makes no round trip
+            return proxyManager()
+                    .builder()
+                    .withOptimization(getOptimization(configuration))
+                    .build(key.getBytes(), () -> configuration);
+        });
+    }
+
+    BucketConfiguration getApiConfiguration(String apiIdentifier) {
+        BucketConfiguration configuration = apiConfigurations.get(apiIdentifier);
+        if (configuration == null) {
+            log.warn("No rate limit configured for API {}, using the default one", apiIdentifier);
+            return DEFAULT_API_CONFIGURATION;
         }
+        return configuration;
+    }
 
-        return proxyManager().builder().build(bucketIdentifier.getBytes(), apiConfigurations.get(apiIdentifier));
+    static Optimization getOptimization(BucketConfiguration configuration) {
+        long capacity = configuration.getBandwidths()[0].getCapacity();
+        long maxUnsynchronizedTokens = capacity / UNSYNCHRONIZED_TOKENS_DIVISOR;
+        if (maxUnsynchronizedTokens == 0) {
+            return Optimizations.batching();
+        }
+
+        return Optimizations.delaying(new DelayParameters(maxUnsynchronizedTokens, MAX_UNSYNCHRONIZED_DURATION));
+    }
+
+    /**
+     * Adds rate limits for more APIs, from a comma separated list of `api:limit:refillSeconds` entries. For example,
+     * `signup:20:3600` allows 20 requests per user per hour on the API identified as `signup`.
+     */
+    private void addApiConfigurations(String apiLimits) {
+        if (!StringUtils.hasText(apiLimits)) {
+            return;
+        }
+
+        for (String apiLimit : apiLimits.split(",")) {
+            String[] parts = apiLimit.trim().split(":");
+            try {
+                apiConfigurations.put(
+                        parts[0],
+                        createBucketConfiguration(
+                                Duration.ofSeconds(Long.parseLong(parts[2])), Integer.parseInt(parts[1])));
+            } catch (ArrayIndexOutOfBoundsException | IllegalArgumentException e) {
+                // Also covers limits and refill periods that are not positive, which bucket4j rejects
+                log.error("Ignoring invalid rate limit configuration {}", apiLimit);
+            }
+        }
     }
 
     private static BucketConfiguration createBucketConfiguration(Duration refillDuration, int limit) {
@@ -5,6 +5,7 @@ import com.appsmith.server.domains.ActionCollection;
 import com.appsmith.server.repositories.AppsmithRepository;
 import com.mongodb.bulk.BulkWriteResult;
 import com.mongodb.client.result.InsertManyResult;
+import com.mongodb.client.result.UpdateResult;
 import org.springframework.data.domain.Sort;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -54,4 +55,8 @@ public interface CustomActionCollectionRepositoryCE extends AppsmithRepository<A
     Mono<List<BulkWriteResult>> bulkUpdate(List<ActionCollection> actionCollections);
 
     Flux<ActionCollection> findAllByApplicationIds(List<String> applicationIds, List<String> includeFields);
+
+    Mono<UpdateResult> archiveDeletedUnpublishedActionCollections(String applicationId, AclPermission permission);
+
+    Mono<UpdateResult> publishActionCollections(String applicationId, AclPermission permission);
 }
@@ -11,17 +11,22 @@ import com.mongodb.bulk.BulkWriteResult;
 import com.mongodb.client.model.UpdateOneModel;
 import com.mongodb.client.model.WriteModel;
 import com.mongodb.client.result.InsertManyResult;
+import com.mongodb.client.result.UpdateResult;
 import org.apache.commons.lang3.StringUtils;
 import org.bson.Document;
 import org.bson.types.ObjectId;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.Fields;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.util.CollectionUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -269,4 +274,39 @@ public class CustomActionCollectionRepositoryCEImpl extends BaseAppsmithReposito
         Criteria applicationCriteria = Criteria.where(FieldName.APPLICATION_ID).in(applicationIds);
         return queryAll(List.of(applicationCriteria), includeFields, null, null, NO_RECORD_LIMIT);
     }
+
+    @Override
+    public Mono<UpdateResult> archiveDeletedUnpublishedActionCollections(
+            String applicationId, AclPermission permission) {
+        Criteria applicationIdCriteria = where(fieldName(QActionCollection.actionCollection.applicationId))
+                .is(applicationId);
+        String unpublishedDeletedAtFieldName = String.format(
+                "%s.%s",
+                fieldName(QActionCollection.actionCollection.unpublishedCollection),
+                fieldName(QActionCollection.actionCollection.unpublishedCollection.deletedAt));
+        Criteria deletedFromUnpublishedCriteria =
+                where(unpublishedDeletedAtFieldName).ne(null);
+
+        Instant now = Instant.now();
+        Update update = new Update();
+        update.set(FieldName.DELETED, true);
+        update.set(FieldName.DELETED_AT, now);
+        update.set(FieldName.UPDATED_AT, now);
+        return updateByCriteria(List.of(applicationIdCriteria, deletedFromUnpublishedCriteria), update, permission);
+    }
+
+    @Override
+    public Mono<UpdateResult> publishActionCollections(String applicationId, AclPermission permission) {
+        Criteria applicationIdCriteria = where(fieldName(QActionCollection.actionCollection.applicationId))
+                .is(applicationId);
+
+        // Copies the unpublished collection over the published one on the database side, in a single update. Auditing
+        // only applies to saved documents, so the update time is set here.
+        AggregationUpdate update = AggregationUpdate.update()
+                .set(fieldName(QActionCollection.actionCollection.publishedCollection))
+                .toValueOf(Fields.field(fieldName(QActionCollection.actionCollection.unpublishedCollection)))
+                .set(FieldName.UPDATED_AT)
+                .toValue(Instant.now());
+        return updateByCriteria(List.of(applicationIdCriteria), update, permission);
+    }
 }
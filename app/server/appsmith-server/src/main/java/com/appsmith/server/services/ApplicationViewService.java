@@ -0,0 +1,5 @@
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.ApplicationViewServiceCE;
+
+public interface ApplicationViewService extends ApplicationViewServiceCE {}
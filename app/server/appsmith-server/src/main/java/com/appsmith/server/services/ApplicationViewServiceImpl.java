@@ -0,0 +1,29 @@
+package com.appsmith.server.services;
+
+import com.appsmith.server.newactions.base.NewActionService;
+import com.appsmith.server.services.ce.ApplicationViewServiceCEImpl;
+import org.springframework.stereotype.Service;
+
+@Service
+public class ApplicationViewServiceImpl extends ApplicationViewServiceCEImpl implements ApplicationViewService {
+
+    public ApplicationViewServiceImpl(
+            ApplicationService applicationService,
+            NewPageService newPageService,
+            NewActionService newActionService,
+            ActionCollectionService actionCollectionService,
+            CustomJSLibService customJSLibService,
+            ThemeService themeService,
+            PermissionGroupService permissionGroupService,
+            UserDataService userDataService) {
+        super(
+                applicationService,
+                newPageService,
+                newActionService,
+                actionCollectionService,
+                customJSLibService,
+                themeService,
+                permissionGroupService,
+                userDataService);
+    }
+}
@@ -11,6 +11,7 @@ import com.appsmith.server.dtos.ce.ImportActionCollectionResultDTO;
 import com.appsmith.server.dtos.ce.ImportActionResultDTO;
 import com.appsmith.server.helpers.ce.ImportApplicationPermissionProvider;
 import com.appsmith.server.services.CrudService;
+import com.mongodb.client.result.UpdateResult;
 import org.springframework.data.domain.Sort;
 import org.springframework.util.MultiValueMap;
 import reactor.core.publisher.Flux;
@@ -79,4 +80,6 @@ public interface ActionCollectionServiceCE extends CrudService<ActionCollection,
             Map<String, String> pluginMap,
             Map<String, NewPage> pageNameMap,
             ImportApplicationPermissionProvider permissionProvider);
+
+    Mono<UpdateResult> publishActionCollections(String applicationId, AclPermission permission);
 }
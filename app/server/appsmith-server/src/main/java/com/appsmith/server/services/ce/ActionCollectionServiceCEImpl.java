@@ -27,6 +27,7 @@ import com.appsmith.server.services.ApplicationService;
 import com.appsmith.server.services.BaseService;
 import com.appsmith.server.solutions.ActionPermission;
 import com.appsmith.server.solutions.ApplicationPermission;
+import com.mongodb.client.result.UpdateResult;
 import jakarta.validation.Validator;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.ObjectUtils;
@@ -836,4 +837,24 @@ public class ActionCollectionServiceCEImpl extends BaseService<ActionCollectionR
                     return Mono.error(e);
                 });
     }
+
+    /**
+     * This method does the following:
+     * 1. it deletes action collections which are deleted from the edit mode.
+     * 2. It updates the remaining action collections in a single update by setting publishedCollection=unpublishedCollection
+     * The actions of deleted collections are already marked as deleted in the edit mode, and get archived when the
+     * actions are published.
+     *
+     * @param applicationId
+     * @param permission
+     * @return result of the update that publishes the collections, its matched count is the number of published collections
+     */
+    @Override
+    public Mono<UpdateResult> publishActionCollections(String applicationId, AclPermission permission) {
+        // delete the action collections that were deleted in edit mode
+        return repository
+                .archiveDeletedUnpublishedActionCollections(applicationId, permission)
+                // copy the unpublished collection dto to published collection dto
+                .then(repository.publishActionCollections(applicationId, permission));
+    }
 }
@@ -10,6 +10,7 @@ import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.domains.NewPage;
 import com.appsmith.server.domains.User;
 import com.appsmith.server.domains.UserData;
+import com.appsmith.server.helpers.AnalyticsEventQueue;
 import com.appsmith.server.helpers.ExchangeUtils;
 import com.appsmith.server.helpers.UserUtils;
 import com.appsmith.server.repositories.UserDataRepository;
@@ -52,6 +53,8 @@ public class AnalyticsServiceCEImpl implements AnalyticsServiceCE {
 
     private final UserDataRepository userDataRepository;
 
+    private final AnalyticsEventQueue analyticsEventQueue;
+
     @Autowired
     public AnalyticsServiceCEImpl(
             @Autowired(required = false) Analytics analytics,
@@ -60,7 +63,8 @@ public class AnalyticsServiceCEImpl implements AnalyticsServiceCE {
             ConfigService configService,
             UserUtils userUtils,
             ProjectProperties projectProperties,
-            UserDataRepository userDataRepository) {
+            UserDataRepository userDataRepository,
+            AnalyticsEventQueue analyticsEventQueue) {
         this.analytics = analytics;
         this.sessionUserService = sessionUserService;
         this.commonConfig = commonConfig;
@@ -68,6 +72,7 @@ public class AnalyticsServiceCEImpl implements AnalyticsServiceCE {
         this.userUtils = userUtils;
         this.projectProperties = projectProperties;
         this.userDataRepository = userDataRepository;
+        this.analyticsEventQueue = analyticsEventQueue;
     }
 
     public boolean isActive() {
@@ -105,19 +110,19 @@ public class AnalyticsServiceCEImpl implements AnalyticsServiceCE {
                         .defaultIfEmpty("")
                 : Mono.just(recentlyUsedWorkspaceId);
 
-        return Mono.zip(
-                        Mono.just(user),
+        // The traits of the user need a few lookups, which are done after the user is returned, so that they don't add
+        // to the latency of the request that identifies the user
+        final Mono<Void> identifyMono = Mono.zip(
                         isSuperUserMono,
                         configService.getInstanceId().defaultIfEmpty("unknown-instance-id"),
                         recentlyUsedWorkspaceIdMono)
-                .map(tuple -> {
-                    final User savedUser = tuple.getT1();
-                    final boolean isSuperUser = tuple.getT2();
-                    final String instanceId = tuple.getT3();
+                .doOnNext(tuple -> {
+                    final boolean isSuperUser = tuple.getT1();
+                    final String instanceId = tuple.getT2();
 
-                    String username = savedUser.getUsername();
-                    String name = savedUser.getName();
-                    String email = savedUser.getEmail();
+                    String username = user.getUsername();
+                    String name = user.getName();
+                    String email = user.getEmail();
                     final String emailDomainHash = getEmailDomainHash(email);
 
                     if (!commonConfig.isCloudHosting()) {
@@ -126,20 +131,37 @@ public class AnalyticsServiceCEImpl implements AnalyticsServiceCE {
                         email = hash(email);
                     }
 
-                    analytics.enqueue(IdentifyMessage.builder()
-                            .userId(ObjectUtils.defaultIfNull(username, ""))
-                            .traits(Map.of(
-                                    "name", ObjectUtils.defaultIfNull(name, ""),
-                                    "email", ObjectUtils.defaultIfNull(email, ""),
-                                    "emailDomainHash", emailDomainHash,
-                                    "isSuperUser", isSuperUser,
-                                    "instanceId", instanceId,
-                                    "mostRecentlyUsedWorkspaceId", tuple.getT4(),
-                                    "proficiency", ObjectUtils.defaultIfNull(userData.getProficiency(), ""),
-                                    "goal", ObjectUtils.defaultIfNull(userData.getUseCase(), ""))));
-                    analytics.flush();
-                    return savedUser;
-                });
+                    final String userId = ObjectUtils.defaultIfNull(username, "");
+                    analyticsEventQueue.enqueueIdentify(
+                            userId,
+                            IdentifyMessage.builder()
+                                    .userId(userId)
+                                    .traits(Map.of(
+                                            "name", ObjectUtils.defaultIfNull(name, ""),
+                                            "email", ObjectUtils.defaultIfNull(email, ""),
+                                            "emailDomainHash", emailDomainHash,
+                                            "isSuperUser", isSuperUser,
+                                            "instanceId", instanceId,
+                                            "mostRecentlyUsedWorkspaceId", tuple.getT3(),
+                                            "proficiency", ObjectUtils.defaultIfNull(userData.getProficiency(), ""),
+                                            "goal", ObjectUtils.defaultIfNull(userData.getUseCase(), ""))));
+                })
+                .then();
+
+        return runInBackground(identifyMono, "identify user " + user.getId()).thenReturn(user);
+    }
+
+    /**
+     * Subscribes to the given analytics work with the context of the current request, without waiting for it. Errors
+     * are only logged, as analytics must never fail the request that reports it.
+     */
+    private Mono<Void> runInBackground(Mono<?> analyticsMono, String description) {
+        return Mono.deferContextual(contextView -> {
+            analyticsMono
+                    .contextWrite(contextView)
+                    .subscribe(null, error -> log.debug("Unable to {} for analytics", description, error));
+            return Mono.empty();
+        });
     }
 
     public void identifyInstance(
@@ -148,24 +170,25 @@ public class AnalyticsServiceCEImpl implements AnalyticsServiceCE {
             return;
         }
 
-        analytics.enqueue(IdentifyMessage.builder()
-                .userId(instanceId)
-                .traits(Map.of(
-                        "isInstance",
-                        true, // Is this "identify" data-point for a user or an instance?
-                        ROLE,
-                        ObjectUtils.defaultIfNull(role, ""),
-                        GOAL,
-                        ObjectUtils.defaultIfNull(useCase, ""),
-                        EMAIL,
-                        ObjectUtils.defaultIfNull(adminEmail, ""),
-                        NAME,
-                        ObjectUtils.defaultIfNull(adminFullName, ""),
-                        IP,
-                        ObjectUtils.defaultIfNull(ip, "unknown"),
-                        IP_ADDRESS,
-                        ObjectUtils.defaultIfNull(ip, "unknown"))));
-        analytics.flush();
+        analyticsEventQueue.enqueueIdentify(
+                instanceId,
+                IdentifyMessage.builder()
+                        .userId(instanceId)
+                        .traits(Map.of(
+                                "isInstance",
+                                true, // Is this "identify" data-point for a user or an instance?
+                                ROLE,
+                                ObjectUtils.defaultIfNull(role, ""),
+                                GOAL,
+                                ObjectUtils.defaultIfNull(useCase, ""),
+                                EMAIL,
+                                ObjectUtils.defaultIfNull(adminEmail, ""),
+                                NAME,
+                                ObjectUtils.defaultIfNull(adminFullName, ""),
+                                IP,
+                                ObjectUtils.defaultIfNull(ip, "unknown"),
+                                IP_ADDRESS,
+                                ObjectUtils.defaultIfNull(ip, "unknown"))));
     }
 
     @Override
@@ -214,7 +237,9 @@ public class AnalyticsServiceCEImpl implements AnalyticsServiceCE {
 
         final String finalUserId = userId;
 
-        return Mono.zip(
+        // The instance id and the request headers are looked up after the request is done with analytics, so that
+        // they don't add to its latency
+        final Mono<String> eventMono = Mono.zip(
                         ExchangeUtils.getAnonymousUserIdFromCurrentRequest(),
                         ExchangeUtils.getUserAgentFromCurrentRequest(),
                         configService.getInstanceId().defaultIfEmpty("unknown-instance-id"))
@@ -246,10 +271,11 @@ public class AnalyticsServiceCEImpl implements AnalyticsServiceCE {
                     analyticsProperties.put("instanceId", instanceId);
                     analyticsProperties.put("version", projectProperties.getVersion());
                     messageBuilder = messageBuilder.properties(analyticsProperties);
-                    analytics.enqueue(messageBuilder);
+                    analyticsEventQueue.enqueue(messageBuilder);
                     return instanceId;
-                })
-                .then();
+                });
+
+        return runInBackground(eventMono, "send event " + event);
     }
 
     @Override
@@ -263,6 +289,9 @@ public class AnalyticsServiceCEImpl implements AnalyticsServiceCE {
         }
 
         final String eventTag = getEventTag(event, object);
+        final String objectId = ((Identifiable) object).getId();
+        // Copied, as the caller may change the properties once the object is returned
+        final Map<String, Object> eventProperties = extraProperties == null ? null : new HashMap<>(extraProperties);
 
         // We will create an anonymous user object for event tracking if no user is present
         // Without this, a lot of flows meant for anonymous users will error out
@@ -277,7 +306,9 @@ public class AnalyticsServiceCEImpl implements AnalyticsServiceCE {
 
         Mono<User> userMono = sessionUserService.getCurrentUser().switchIfEmpty(Mono.just(anonymousUser));
 
-        return userMono.flatMap(user -> Mono.zip(
+        // The current user is looked up after the object is returned, so that the event doesn't add to the latency of
+        // the request that raises it
+        final Mono<Void> eventMono = userMono.flatMap(user -> Mono.zip(
                         user.isAnonymous()
                                 ? ExchangeUtils.getAnonymousUserIdFromCurrentRequest()
                                 : Mono.just(user.getUsername()),
@@ -296,16 +327,16 @@ public class AnalyticsServiceCEImpl implements AnalyticsServiceCE {
                     boolean isAvoidLoggingEvent = user.isAnonymous()
                             && !(isEventUserSignUpOrLogout || isEventPageView || isEventActionExecution);
                     if (isAvoidLoggingEvent) {
-                        return Mono.just(object);
+                        return Mono.empty();
                     }
 
                     final String username = (object instanceof User objectAsUser ? objectAsUser : user).getUsername();
 
                     HashMap<String, Object> analyticsProperties = new HashMap<>();
                     analyticsProperties.put("id", id);
-                    analyticsProperties.put("oid", ((Identifiable) object).getId());
-                    if (extraProperties != null) {
-                        analyticsProperties.putAll(extraProperties);
+                    analyticsProperties.put("oid", objectId);
+                    if (eventProperties != null) {
+                        analyticsProperties.putAll(eventProperties);
                         // To avoid sending extra event data to analytics
                         analyticsProperties.remove(FieldName.EVENT_DATA);
                     }
@@ -318,8 +349,10 @@ public class AnalyticsServiceCEImpl implements AnalyticsServiceCE {
                         analyticsProperties.remove(FieldName.CLOUD_HOSTED_EXTRA_PROPS);
                     }
 
-                    return sendEvent(eventTag, username, analyticsProperties).thenReturn(object);
+                    return sendEvent(eventTag, username, analyticsProperties);
                 });
+
+        return runInBackground(eventMono, "send event " + eventTag).thenReturn(object);
     }
 
     /**
@@ -1185,29 +1185,16 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
                 .countActionsByPluginType(applicationId)
                 .collectMap(PluginTypeAndCountDTO::getPluginType, PluginTypeAndCountDTO::getCount);
 
-        Mono<List<ActionCollection>> publishedActionCollectionsListMono = actionCollectionService
-                .findAllByApplicationIdAndViewMode(applicationId, false, actionPermission.getEditPermission(), null)
-                .flatMap(collection -> {
-                    // If the collection was deleted in edit mode, now this can be safely deleted from the repository
-                    if (collection.getUnpublishedCollection().getDeletedAt() != null) {
-                        return actionCollectionService
-                                .archiveById(collection.getId())
-                                .then(Mono.empty());
-                    }
-                    // Publish the collection by copying the unpublished collectionDTO to published collectionDTO
-                    collection.setPublishedCollection(collection.getUnpublishedCollection());
-                    return Mono.just(collection);
-                })
-                .flatMap(actionCollectionService::save)
-                .collectList()
+        Mono<UpdateResult> publishActionCollectionsMono = actionCollectionService
+                .publishActionCollections(applicationId, actionPermission.getEditPermission())
                 .cache(); // caching because it's needed to send analytics attributes after publishing the app
 
         return publishApplicationAndPages
-                .flatMap(newPages -> Mono.zip(publishActionsMono, publishedActionCollectionsListMono, publishThemeMono))
+                .flatMap(newPages -> Mono.zip(publishActionsMono, publishActionCollectionsMono, publishThemeMono))
                 .then(sendApplicationPublishedEvent(
                         publishApplicationAndPages,
                         actionCountByPluginTypeMapMono,
-                        publishedActionCollectionsListMono,
+                        publishActionCollectionsMono.map(UpdateResult::getMatchedCount),
                         Mono.just(updatedPublishedJSLibDTOs),
                         applicationId,
                         isPublishedManually))
@@ -1229,7 +1216,7 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
     private Mono<Application> sendApplicationPublishedEvent(
             Mono<List<ApplicationPage>> publishApplicationAndPages,
             Mono<Map<PluginType, Integer>> publishedActionsFlux,
-            Mono<List<ActionCollection>> publishedActionsCollectionFlux,
+            Mono<Long> publishedActionCollectionCountMono,
             Mono<Set<CustomJSLibApplicationDTO>> publishedJSLibDTOsMono,
             String applicationId,
             boolean isPublishedManually) {
@@ -1239,7 +1226,7 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
         return Mono.zip(
                         publishApplicationAndPages,
                         publishedActionsFlux,
-                        publishedActionsCollectionFlux,
+                        publishedActionCollectionCountMono,
                         // not using existing applicationMono because we need the latest Application after published
                         applicationService.findById(applicationId, applicationPermission.getEditPermission()),
                         publishedJSLibDTOsMono,
@@ -1267,7 +1254,7 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
                     extraProperties.put("remoteQueryCount", remoteQueryCount);
                     extraProperties.put(
                             "queryCount", (dbQueryCount + apiCount + jsFuncCount + saasQueryCount + remoteQueryCount));
-                    extraProperties.put("actionCollectionCount", objects.getT3().size());
+                    extraProperties.put("actionCollectionCount", objects.getT3());
                     extraProperties.put("jsLibsCount", objects.getT5().size());
                     extraProperties.put("appId", defaultIfNull(application.getId(), ""));
                     extraProperties.put("appName", defaultIfNull(application.getName(), ""));
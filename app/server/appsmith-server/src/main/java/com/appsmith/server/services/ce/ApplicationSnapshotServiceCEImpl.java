@@ -13,15 +13,28 @@ import com.appsmith.server.services.ApplicationService;
 import com.appsmith.server.solutions.ApplicationPermission;
 import com.appsmith.server.solutions.ImportExportApplicationService;
 import com.google.gson.Gson;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.SequenceInputStream;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 @RequiredArgsConstructor
 public class ApplicationSnapshotServiceCEImpl implements ApplicationSnapshotServiceCE {
@@ -56,11 +69,8 @@ public class ApplicationSnapshotServiceCEImpl implements ApplicationSnapshotServ
     }
 
     private Flux<ApplicationSnapshot> createSnapshots(String applicationId, ApplicationJson applicationJson) {
-        String json = gson.toJson(applicationJson);
-        // check the size of the exported json before storing to avoid mongodb document size limit
-        byte[] utf8JsonString = json.getBytes(StandardCharsets.UTF_8);
-        List<ApplicationSnapshot> applicationSnapshots = createSnapshotsObjects(utf8JsonString, applicationId);
-        return applicationSnapshotRepository.saveAll(applicationSnapshots);
+        return Mono.fromCallable(() -> createSnapshotsObjects(applicationJson, applicationId))
+                .flatMapMany(applicationSnapshotRepository::saveAll);
     }
 
     @Override
@@ -79,12 +89,11 @@ public class ApplicationSnapshotServiceCEImpl implements ApplicationSnapshotServ
                         branchName, applicationId, applicationPermission.getEditPermission())
                 .switchIfEmpty(Mono.error(
                         new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.APPLICATION, applicationId)))
-                .flatMap(application -> getApplicationJsonStringFromSnapShot(application.getId())
-                        .zipWith(Mono.just(application)))
+                .flatMap(application ->
+                        getApplicationJsonFromSnapShot(application.getId()).zipWith(Mono.just(application)))
                 .flatMap(objects -> {
-                    String applicationJsonString = objects.getT1();
+                    ApplicationJson applicationJson = objects.getT1();
                     Application application = objects.getT2();
-                    ApplicationJson applicationJson = gson.fromJson(applicationJsonString, ApplicationJson.class);
                     return importExportApplicationService.restoreSnapshot(
                             application.getWorkspaceId(), applicationJson, application.getId(), branchName);
                 })
@@ -94,46 +103,97 @@ public class ApplicationSnapshotServiceCEImpl implements ApplicationSnapshotServ
                 .map(responseUtils::updateApplicationWithDefaultResources);
     }
 
-    private Mono<String> getApplicationJsonStringFromSnapShot(String applicationId) {
+    /**
+     * Parses the application json straight from the chunks, without joining them into a single array or string first.
+     * Snapshots that were stored before compression was introduced are read as plain json.
+     */
+    private Mono<ApplicationJson> getApplicationJsonFromSnapShot(String applicationId) {
         return applicationSnapshotRepository
                 .findByApplicationId(applicationId)
-                .sort(Comparator.comparingInt(ApplicationSnapshot::getChunkOrder))
-                .map(ApplicationSnapshot::getData)
-                .collectList()
-                .map(bytes -> {
-                    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-                    for (byte[] b : bytes) {
-                        outputStream.writeBytes(b);
+                .collectSortedList(Comparator.comparingInt(ApplicationSnapshot::getChunkOrder))
+                .map(chunks -> {
+                    InputStream inputStream = new SequenceInputStream(Collections.enumeration(chunks.stream()
+                            .map(ApplicationSnapshot::getData)
+                            .map(ByteArrayInputStream::new)
+                            .toList()));
+                    try (Reader reader = new InputStreamReader(
+                            isCompressed(chunks) ? new GZIPInputStream(inputStream) : inputStream,
+                            StandardCharsets.UTF_8)) {
+                        return gson.fromJson(reader, ApplicationJson.class);
+                    } catch (IOException e) {
+                        throw new AppsmithException(AppsmithError.GENERIC_BAD_REQUEST, "Restore snapshot");
                     }
-                    return outputStream.toString(StandardCharsets.UTF_8);
                 });
     }
 
-    private List<ApplicationSnapshot> createSnapshotsObjects(byte[] bytes, String applicationId) {
-        List<ApplicationSnapshot> applicationSnapshots = new ArrayList<>();
-        int total = bytes.length;
-        int copiedCount = 0;
-        int chunkOrder = 1;
+    private static boolean isCompressed(List<ApplicationSnapshot> chunks) {
+        if (chunks.isEmpty() || chunks.get(0).getData().length < 2) {
+            return false;
+        }
+        byte[] data = chunks.get(0).getData();
+        return (data[0] & 0xff | (data[1] & 0xff) << 8) == GZIPInputStream.GZIP_MAGIC;
+    }
+
+    /**
+     * Serializes the application json through a gzip stream that cuts the compressed output into chunks of at most
+     * MAX_SNAPSHOT_SIZE bytes, to stay under the mongodb document size limit. Only the compressed chunks are held in
+     * memory, never the whole json.
+     */
+    private List<ApplicationSnapshot> createSnapshotsObjects(ApplicationJson applicationJson, String applicationId)
+            throws IOException {
+        SnapshotChunkOutputStream chunkOutputStream = new SnapshotChunkOutputStream(applicationId);
+        try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(chunkOutputStream), StandardCharsets.UTF_8)) {
+            gson.toJson(applicationJson, writer);
+        }
+        return chunkOutputStream.getApplicationSnapshots();
+    }
+
+    private static class SnapshotChunkOutputStream extends OutputStream {
+        private final String applicationId;
+
+        @Getter
+        private final List<ApplicationSnapshot> applicationSnapshots = new ArrayList<>();
+
+        private ByteArrayOutputStream currentChunk = new ByteArrayOutputStream();
 
-        while (copiedCount < total) {
-            int currentChunkSize = MAX_SNAPSHOT_SIZE;
-            if (copiedCount + currentChunkSize > total) {
-                currentChunkSize = total - copiedCount;
+        SnapshotChunkOutputStream(String applicationId) {
+            this.applicationId = applicationId;
+        }
+
+        @Override
+        public void write(int b) {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            while (length > 0) {
+                int copyCount = Math.min(length, MAX_SNAPSHOT_SIZE - currentChunk.size());
+                currentChunk.write(bytes, offset, copyCount);
+                offset += copyCount;
+                length -= copyCount;
+                if (currentChunk.size() == MAX_SNAPSHOT_SIZE) {
+                    addChunk();
+                }
             }
-            byte[] sub = new byte[currentChunkSize];
-            System.arraycopy(bytes, copiedCount, sub, 0, currentChunkSize);
-            copiedCount += currentChunkSize;
+        }
 
+        @Override
+        public void close() {
+            if (currentChunk.size() > 0) {
+                addChunk();
+            }
+        }
+
+        private void addChunk() {
             // create snapshot that'll contain the chunk of data
             ApplicationSnapshot applicationSnapshot = new ApplicationSnapshot();
-            applicationSnapshot.setData(sub);
+            applicationSnapshot.setData(currentChunk.toByteArray());
             applicationSnapshot.setApplicationId(applicationId);
-            applicationSnapshot.setChunkOrder(chunkOrder);
+            applicationSnapshot.setChunkOrder(applicationSnapshots.size() + 1);
             applicationSnapshots.add(applicationSnapshot);
-
-            chunkOrder++;
+            currentChunk = new ByteArrayOutputStream();
         }
-        return applicationSnapshots;
     }
 
     @Override
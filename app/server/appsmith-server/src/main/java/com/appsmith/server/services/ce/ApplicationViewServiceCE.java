@@ -0,0 +1,8 @@
+package com.appsmith.server.services.ce;
+
+import com.appsmith.server.dtos.ApplicationViewDTO;
+import reactor.core.publisher.Mono;
+
+public interface ApplicationViewServiceCE {
+    Mono<ApplicationViewDTO> getApplicationView(String defaultApplicationId, String branchName);
+}
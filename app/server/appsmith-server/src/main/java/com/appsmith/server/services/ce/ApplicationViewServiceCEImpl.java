@@ -0,0 +1,146 @@
+package com.appsmith.server.services.ce;
+
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.ApplicationMode;
+import com.appsmith.server.dtos.ApplicationViewDTO;
+import com.appsmith.server.newactions.base.NewActionService;
+import com.appsmith.server.services.ActionCollectionService;
+import com.appsmith.server.services.ApplicationService;
+import com.appsmith.server.services.CustomJSLibService;
+import com.appsmith.server.services.NewPageService;
+import com.appsmith.server.services.PermissionGroupService;
+import com.appsmith.server.services.ThemeService;
+import com.appsmith.server.services.UserDataService;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.TreeSet;
+
+@Slf4j
+public class ApplicationViewServiceCEImpl implements ApplicationViewServiceCE {
+
+    private static final int MAX_CACHED_VIEWS = 1000;
+
+    private static final Duration CACHED_VIEW_TTL = Duration.ofMinutes(5);
+
+    private final ApplicationService applicationService;
+    private final NewPageService newPageService;
+    private final NewActionService newActionService;
+    private final ActionCollectionService actionCollectionService;
+    private final CustomJSLibService customJSLibService;
+    private final ThemeService themeService;
+    private final PermissionGroupService permissionGroupService;
+    private final UserDataService userDataService;
+
+    /**
+     * Assembled views, keyed by the published version of the application and the permission groups of the users
+     * that can see it. Concurrent requests for the same key share one assembly, and failed ones are not retained.
+     */
+    private final AsyncCache<String, ApplicationViewDTO> applicationViewCache = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_VIEWS)
+            .expireAfterWrite(CACHED_VIEW_TTL)
+            .buildAsync();
+
+    public ApplicationViewServiceCEImpl(
+            ApplicationService applicationService,
+            NewPageService newPageService,
+            NewActionService newActionService,
+            ActionCollectionService actionCollectionService,
+            CustomJSLibService customJSLibService,
+            ThemeService themeService,
+            PermissionGroupService permissionGroupService,
+            UserDataService userDataService) {
+        this.applicationService = applicationService;
+        this.newPageService = newPageService;
+        this.newActionService = newActionService;
+        this.actionCollectionService = actionCollectionService;
+        this.customJSLibService = customJSLibService;
+        this.themeService = themeService;
+        this.permissionGroupService = permissionGroupService;
+        this.userDataService = userDataService;
+    }
+
+    /**
+     * Returns the published application along with its pages, actions, action collections, JS libraries and theme.
+     * The application is always fetched first, so that the read permission is checked on every request, and its
+     * deployment time decides whether a previously assembled view can be served. The application is marked as
+     * recently used by the session user on every request too, as the assembled view is shared by many users.
+     *
+     * @param defaultApplicationId default application id, as used by the viewer
+     * @param branchName           branch of the application, if it is connected to git
+     * @return the view of the application, with an ETag that changes whenever the view can change
+     */
+    @Override
+    public Mono<ApplicationViewDTO> getApplicationView(String defaultApplicationId, String branchName) {
+        return Mono.zip(
+                        applicationService.getApplicationInViewMode(defaultApplicationId, branchName),
+                        permissionGroupService.getSessionUserPermissionGroupIds())
+                .flatMap(tuple -> {
+                    Application application = tuple.getT1();
+                    String cacheKey = getCacheKey(application, branchName, tuple.getT2());
+
+                    // The future is shared by every viewer waiting on the same key, so one of them going away must
+                    // not cancel it for the others
+                    Mono<ApplicationViewDTO> applicationViewMono = Mono.deferContextual(contextView -> Mono.fromFuture(
+                            applicationViewCache.get(cacheKey, (key, executor) -> assembleApplicationView(
+                                            application, defaultApplicationId, branchName, key)
+                                    .contextWrite(contextView)
+                                    .toFuture()),
+                            true));
+
+                    return userDataService
+                            .updateLastUsedAppAndWorkspaceList(application)
+                            .then(applicationViewMono);
+                });
+    }
+
+    private Mono<ApplicationViewDTO> assembleApplicationView(
+            Application application, String defaultApplicationId, String branchName, String cacheKey) {
+        log.debug("Assembling view of application {} on branch {}", application.getId(), branchName);
+
+        ApplicationViewDTO applicationViewDTO = new ApplicationViewDTO();
+        applicationViewDTO.setApplication(application);
+        applicationViewDTO.setETag("\"" + DigestUtils.md5Hex(cacheKey) + "\"");
+
+        return Mono.when(
+                        newPageService
+                                .findApplicationPagesByApplicationIdViewModeAndBranch(
+                                        defaultApplicationId, branchName, true, false)
+                                .doOnNext(applicationViewDTO::setPages),
+                        newActionService
+                                .getActionsForViewMode(defaultApplicationId, branchName)
+                                .collectList()
+                                .doOnNext(applicationViewDTO::setActions),
+                        actionCollectionService
+                                .getActionCollectionsForViewMode(defaultApplicationId, branchName)
+                                .collectList()
+                                .doOnNext(applicationViewDTO::setActionCollections),
+                        customJSLibService
+                                .getAllJSLibsInApplication(defaultApplicationId, branchName, true)
+                                .doOnNext(applicationViewDTO::setCustomJSLibs),
+                        themeService
+                                .getApplicationTheme(defaultApplicationId, ApplicationMode.PUBLISHED, branchName)
+                                .doOnNext(applicationViewDTO::setTheme))
+                .thenReturn(applicationViewDTO);
+    }
+
+    /**
+     * The application is updated whenever it is published, so its update and deployment times together identify the
+     * published version. Permission groups are part of the key since they decide which actions and which user
+     * permissions end up in the view.
+     */
+    private static String getCacheKey(Application application, String branchName, Set<String> permissionGroupIds) {
+        return String.join(
+                ":",
+                application.getId(),
+                String.valueOf(branchName),
+                String.valueOf(application.getLastDeployedAt()),
+                String.valueOf(application.getUpdatedAt()),
+                DigestUtils.md5Hex(String.join(",", new TreeSet<>(permissionGroupIds))));
+    }
+}
@@ -5,8 +5,11 @@ import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.repositories.AssetRepository;
 import com.appsmith.server.services.AnalyticsService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.core.io.buffer.DefaultDataBufferFactory;
@@ -24,6 +27,8 @@ import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -48,6 +53,24 @@ public class AssetServiceCEImpl implements AssetServiceCE {
     private static final Set<String> ALLOWED_CONTENT_TYPES_STR =
             Set.of(MediaType.IMAGE_JPEG_VALUE, MediaType.IMAGE_PNG_VALUE);
 
+    private static final long MAX_CACHED_ASSET_BYTES = 32L * 1024 * 1024;
+
+    private static final Duration CACHED_ASSET_TTL = Duration.ofMinutes(10);
+
+    /**
+     * Assets are never modified after they are uploaded, a new asset is created instead. So the hot ones, like
+     * workspace logos and profile photos, can be served from memory without going back to the database. Removing an
+     * asset only invalidates the cache of this server, so entries also expire after a while, to bound how long other
+     * servers keep serving a removed asset.
+     */
+    private final Cache<String, CachedAsset> assetCache = Caffeine.newBuilder()
+            .maximumWeight(MAX_CACHED_ASSET_BYTES)
+            .expireAfterWrite(CACHED_ASSET_TTL)
+            .weigher((String assetId, CachedAsset cachedAsset) -> cachedAsset.data().length)
+            .build();
+
+    private record CachedAsset(String contentType, byte[] data, String eTag, Instant lastModified) {}
+
     @Override
     public Mono<Asset> getById(String id) {
         return repository.findById(id);
@@ -125,6 +148,7 @@ public class AssetServiceCEImpl implements AssetServiceCE {
     public Mono<Void> remove(String assetId) {
         final Asset tempAsset = new Asset();
         tempAsset.setId(assetId);
+        assetCache.invalidate(assetId);
         return repository
                 .deleteById(assetId)
                 .then(analyticsService.sendDeleteEvent(tempAsset))
@@ -184,19 +208,46 @@ public class AssetServiceCEImpl implements AssetServiceCE {
         return data;
     }
 
+    /**
+     * Writes the asset as the response, along with its ETag and last modified time. Responds with 304 Not Modified
+     * instead if the client already has this asset, as per its conditional request headers.
+     */
     @Override
     public Mono<Void> makeImageResponse(ServerWebExchange exchange, String assetId) {
-        return getById(assetId).flatMap(asset -> {
-            final String contentType = asset.getContentType();
+        return getCachedAsset(assetId).flatMap(cachedAsset -> {
             final ServerHttpResponse response = exchange.getResponse();
 
+            // The creation time is optional for the conditional request, in case it was never recorded
+            final boolean isNotModified = cachedAsset.lastModified() == null
+                    ? exchange.checkNotModified(cachedAsset.eTag())
+                    : exchange.checkNotModified(cachedAsset.eTag(), cachedAsset.lastModified());
+            if (isNotModified) {
+                return response.setComplete();
+            }
+
             response.setStatusCode(HttpStatus.OK);
 
-            if (contentType != null) {
-                response.getHeaders().set(HttpHeaders.CONTENT_TYPE, contentType);
+            if (cachedAsset.contentType() != null) {
+                response.getHeaders().set(HttpHeaders.CONTENT_TYPE, cachedAsset.contentType());
             }
 
-            return response.writeWith(Mono.just(new DefaultDataBufferFactory().wrap(asset.getData())));
+            return response.writeWith(Mono.just(new DefaultDataBufferFactory().wrap(cachedAsset.data())));
         });
     }
+
+    private Mono<CachedAsset> getCachedAsset(String assetId) {
+        final CachedAsset cachedAsset = assetCache.getIfPresent(assetId);
+        if (cachedAsset != null) {
+            return Mono.just(cachedAsset);
+        }
+
+        return getById(assetId)
+                .filter(asset -> asset.getData() != null)
+                .map(asset -> new CachedAsset(
+                        asset.getContentType(),
+                        asset.getData(),
+                        "\"" + DigestUtils.md5Hex(asset.getData()) + "\"",
+                        asset.getCreatedAt()))
+                .doOnNext(loadedAsset -> assetCache.put(assetId, loadedAsset));
+    }
 }
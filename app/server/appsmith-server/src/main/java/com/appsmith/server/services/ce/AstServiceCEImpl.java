@@ -7,12 +7,16 @@ import com.appsmith.server.configurations.InstanceConfig;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.util.WebClientUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.web.reactive.function.BodyInserters;
@@ -25,7 +29,10 @@ import reactor.util.function.Tuples;
 import reactor.util.retry.Retry;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -33,7 +40,6 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
-@RequiredArgsConstructor
 public class AstServiceCEImpl implements AstServiceCE {
 
     private final CommonConfig commonConfig;
@@ -50,6 +56,22 @@ public class AstServiceCEImpl implements AstServiceCE {
 
     private static final long MAX_API_RESPONSE_TIME_IN_MS = 50;
 
+    private static final long MAX_CACHED_BINDINGS = 50_000;
+
+    /**
+     * References found by RTS in binding values that were parsed before, keyed by the hash of the binding value and the
+     * eval version it was parsed with. The references of a binding only depend on its content, so most bindings on a
+     * page are served from here when the page is saved again.
+     */
+    private final Cache<BindingKey, Set<String>> referencesCache =
+            Caffeine.newBuilder().maximumSize(MAX_CACHED_BINDINGS).recordStats().build();
+
+    public AstServiceCEImpl(CommonConfig commonConfig, InstanceConfig instanceConfig, MeterRegistry meterRegistry) {
+        this.commonConfig = commonConfig;
+        this.instanceConfig = instanceConfig;
+        CaffeineCacheMetrics.monitor(meterRegistry, referencesCache, "appsmith.ast.references");
+    }
+
     @Override
     public Flux<Tuple2<String, Set<String>>> getPossibleReferencesFromDynamicBinding(
             List<String> bindingValues, int evalVersion) {
@@ -73,21 +95,47 @@ public class AstServiceCEImpl implements AstServiceCE {
                         Mono.just(new HashSet<>(MustacheHelper.getPossibleParentsOld(bindingValue))));
             });
         }
-        return webClient
-                .post()
-                .uri(commonConfig.getRtsBaseUrl() + "/rts-api/v1/ast/multiple-script-data")
-                .contentType(MediaType.APPLICATION_JSON)
-                .body(BodyInserters.fromValue(new GetIdentifiersRequestBulk(bindingValues, evalVersion)))
-                .retrieve()
-                .bodyToMono(GetIdentifiersResponseBulk.class)
-                .retryWhen(Retry.max(3))
-                .flatMapIterable(getIdentifiersResponse -> getIdentifiersResponse.data)
-                .index()
-                .flatMap(tuple2 -> {
-                    long currentIndex = tuple2.getT1();
-                    Set<String> references = tuple2.getT2().getReferences();
-                    return Mono.zip(Mono.just(bindingValues.get((int) currentIndex)), Mono.just(references));
-                });
+        // Only the binding values that haven't been parsed with this eval version before are sent to RTS
+        final Map<String, Set<String>> referencesByBindingValue = new HashMap<>();
+        final List<String> uncachedBindingValues = new ArrayList<>();
+        for (String bindingValue : new LinkedHashSet<>(bindingValues)) {
+            Set<String> references = referencesCache.getIfPresent(BindingKey.of(bindingValue, evalVersion));
+            if (references == null) {
+                uncachedBindingValues.add(bindingValue);
+            } else {
+                referencesByBindingValue.put(bindingValue, references);
+            }
+        }
+
+        final Mono<Map<String, Set<String>>> referencesByBindingValueMono;
+        if (uncachedBindingValues.isEmpty()) {
+            referencesByBindingValueMono = Mono.just(referencesByBindingValue);
+        } else {
+            referencesByBindingValueMono = webClient
+                    .post()
+                    .uri(commonConfig.getRtsBaseUrl() + "/rts-api/v1/ast/multiple-script-data")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(BodyInserters.fromValue(new GetIdentifiersRequestBulk(uncachedBindingValues, evalVersion)))
+                    .retrieve()
+                    .bodyToMono(GetIdentifiersResponseBulk.class)
+                    .retryWhen(Retry.max(3))
+                    .map(getIdentifiersResponse -> {
+                        List<GetIdentifiersResponseDetails> data = getIdentifiersResponse.data;
+                        for (int i = 0; i < data.size(); i++) {
+                            String bindingValue = uncachedBindingValues.get(i);
+                            Set<String> references = data.get(i).getReferences() == null
+                                    ? Set.of()
+                                    : Set.copyOf(data.get(i).getReferences());
+                            referencesCache.put(BindingKey.of(bindingValue, evalVersion), references);
+                            referencesByBindingValue.put(bindingValue, references);
+                        }
+                        return referencesByBindingValue;
+                    });
+        }
+
+        return referencesByBindingValueMono.flatMapMany(referencesMap -> Flux.fromIterable(bindingValues)
+                .filter(referencesMap::containsKey)
+                .map(bindingValue -> Tuples.of(bindingValue, new HashSet<>(referencesMap.get(bindingValue)))));
         // TODO: add error handling scenario for when RTS is not accessible in fat container
     }
 
@@ -144,6 +192,12 @@ public class AstServiceCEImpl implements AstServiceCE {
                 .collect(Collectors.toMap(Tuple2::getT1, Tuple2::getT2));
     }
 
+    record BindingKey(String bindingHash, int evalVersion) {
+        static BindingKey of(String bindingValue, int evalVersion) {
+            return new BindingKey(DigestUtils.sha256Hex(bindingValue), evalVersion);
+        }
+    }
+
     @NoArgsConstructor
     @AllArgsConstructor
     @Getter
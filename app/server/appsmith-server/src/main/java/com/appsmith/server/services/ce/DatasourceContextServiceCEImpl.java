@@ -6,6 +6,7 @@ import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionExceptio
 import com.appsmith.external.models.DatasourceStorage;
 import com.appsmith.external.models.UpdatableConnection;
 import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.server.configurations.DatasourceContextConfig;
 import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.datasources.base.DatasourceService;
 import com.appsmith.server.datasourcestorages.base.DatasourceStorageService;
@@ -16,14 +17,26 @@ import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.services.ConfigService;
 import com.appsmith.server.services.PluginService;
 import com.appsmith.server.solutions.DatasourcePermission;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 @Slf4j
@@ -31,7 +44,6 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
 
     // DatasourceContextIdentifier contains datasourceId & environmentId which is mapped to DatasourceContext
     protected final Map<DatasourceContextIdentifier, Mono<? extends DatasourceContext<?>>> datasourceContextMonoMap;
-    protected final Map<DatasourceContextIdentifier, Object> datasourceContextSynchronizationMonitorMap;
     protected final Map<DatasourceContextIdentifier, DatasourceContext<?>> datasourceContextMap;
     private final DatasourceService datasourceService;
     private final DatasourceStorageService datasourceStorageService;
@@ -39,6 +51,10 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
     private final PluginExecutorHelper pluginExecutorHelper;
     private final ConfigService configService;
     private final DatasourcePermission datasourcePermission;
+    private final DatasourceContextConfig datasourceContextConfig;
+    private final MeterRegistry meterRegistry;
+    private final Set<String> pluginsWithContextGauge = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean isEvictionRunning = new AtomicBoolean(false);
 
     @Autowired
     public DatasourceContextServiceCEImpl(
@@ -47,31 +63,35 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
             PluginService pluginService,
             PluginExecutorHelper pluginExecutorHelper,
             ConfigService configService,
-            DatasourcePermission datasourcePermission) {
+            DatasourcePermission datasourcePermission,
+            DatasourceContextConfig datasourceContextConfig,
+            MeterRegistry meterRegistry) {
         this.datasourceService = datasourceService;
         this.datasourceStorageService = datasourceStorageService;
         this.pluginService = pluginService;
         this.pluginExecutorHelper = pluginExecutorHelper;
         this.datasourceContextMap = new ConcurrentHashMap<>();
         this.datasourceContextMonoMap = new ConcurrentHashMap<>();
-        this.datasourceContextSynchronizationMonitorMap = new ConcurrentHashMap<>();
         this.configService = configService;
         this.datasourcePermission = datasourcePermission;
+        this.datasourceContextConfig = datasourceContextConfig;
+        this.meterRegistry = meterRegistry;
     }
 
     /**
-     * This method defines a critical section that can be executed only by one thread at a time per datasource id - i
-     * .e. if two threads want to create datasource for different datasource ids then they would not be synchronized.
+     * This method makes sure that only one datasource context / connection is created per datasource id, without
+     * taking any locks on the calling thread, which is usually a Netty event loop.
      * Earlier multiple threads could subscribe to a publisher that created connection to a datasource - which
      * resulted in a data race condition resulting in multiple orphan connections.
      * Ref: https://github.com/appsmithorg/appsmith/issues/14117
-     * This method caches the result from the source publisher and forces concurrent subscriptions to re-use the cached
-     * value. Hence, even if multiple threads subscribe to the same source publisher they get the pre-computed cached
-     * value instead of creating a new connection for each subscription of the source publisher.
+     * The cached source publisher is swapped in atomically with `ConcurrentHashMap.compute`, and concurrent
+     * subscriptions re-use its cached value. Hence, even if multiple threads subscribe to the same source publisher they
+     * get the pre-computed cached value instead of creating a new connection for each subscription of the source
+     * publisher. Stale connections are destroyed off the calling thread, and a publisher that fails is dropped from the
+     * cache so that the next call creates a fresh one.
      *
      * @param datasourceStorage           - datasource storage for which a new datasource context / connection needs to be created
      * @param pluginExecutor              - plugin executor associated with the datasource's plugin
-     * @param monitor                     - unique monitor object per datasource id. Lock is acquired on this monitor object.
      * @param datasourceContextIdentifier - key for the datasourceContextMaps.
      * @return a cached source publisher which upon subscription produces / returns the latest datasource context /
      * connection.
@@ -79,70 +99,263 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
     public Mono<? extends DatasourceContext<?>> getCachedDatasourceContextMono(
             DatasourceStorage datasourceStorage,
             PluginExecutor<Object> pluginExecutor,
-            Object monitor,
             DatasourceContextIdentifier datasourceContextIdentifier) {
-        synchronized (monitor) {
-            /* Destroy any connection that is stale or in error state to free up resource */
-            final boolean isStale = getIsStale(datasourceStorage, datasourceContextIdentifier);
-            final boolean isInErrorState = getIsInErrorState(datasourceContextIdentifier);
-
-            if (isStale || isInErrorState) {
-                final Object connection =
-                        datasourceContextMap.get(datasourceContextIdentifier).getConnection();
-                if (connection != null) {
-                    try {
-                        // Basically remove entry from both cache maps
-                        pluginExecutor.datasourceDestroy(connection);
-                    } catch (Exception e) {
-                        log.info("Error destroying stale datasource connection", e);
+        if (!datasourceContextIdentifier.isKeyValid()) {
+            // Dry runs and embedded datasources don't have a context to share, create one for this call alone
+            return createDatasourceContextMono(
+                    datasourceStorage, pluginExecutor, datasourceContextIdentifier, new DatasourceContext<>());
+        }
+
+        final List<Mono<? extends DatasourceContext<?>>> discardedDatasourceContextMonos = new ArrayList<>(1);
+        final Mono<? extends DatasourceContext<?>> datasourceContextMono = datasourceContextMonoMap.compute(
+                datasourceContextIdentifier, (identifier, cachedDatasourceContextMono) -> {
+                    /*
+                     * If a publisher with cached value already exists and is still fresh then return it. Please note
+                     * that even if this publisher is evaluated multiple times the actual datasource creation will only
+                     * happen once and get cached and the same value would directly be returned to further evaluations /
+                     * subscriptions.
+                     */
+                    final boolean isStale = getIsStale(datasourceStorage, identifier);
+                    if (cachedDatasourceContextMono != null && !isStale) {
+                        log.debug("Cached resource context mono exists. Returning the same.");
+                        final DatasourceContext<?> cachedDatasourceContext = datasourceContextMap.get(identifier);
+                        if (cachedDatasourceContext != null) {
+                            cachedDatasourceContext.setLastAccessedTime(Instant.now());
+                        }
+                        return cachedDatasourceContextMono;
                     }
-                }
-                datasourceContextMonoMap.remove(datasourceContextIdentifier);
-                datasourceContextMap.remove(datasourceContextIdentifier);
-            }
 
-            /*
-             * If a publisher with cached value already exists then return it. Please note that even if this publisher is
-             * evaluated multiple times the actual datasource creation will only happen once and get cached and the same
-             * value would directly be returned to further evaluations / subscriptions.
-             */
-            if (datasourceContextIdentifier.getDatasourceId() != null
-                    && datasourceContextMonoMap.get(datasourceContextIdentifier) != null) {
-                log.debug("Cached resource context mono exists. Returning the same.");
-                return datasourceContextMonoMap.get(datasourceContextIdentifier);
+                    /* For this datasource, either the context doesn't exist, or the context is stale. Replace (or add)
+                    with the new connection in the context map. */
+                    final DatasourceContext<Object> datasourceContext = new DatasourceContext<>();
+                    datasourceContext.setPluginExecutor(pluginExecutor);
+                    datasourceContextMap.put(identifier, datasourceContext);
+                    if (cachedDatasourceContextMono != null) {
+                        discardedDatasourceContextMonos.add(cachedDatasourceContextMono);
+                    }
+
+                    return createDatasourceContextMono(
+                            datasourceStorage, pluginExecutor, identifier, datasourceContext);
+                });
+
+        /* Destroy any connection that is stale to free up resource, without holding up the calling thread */
+        discardedDatasourceContextMonos.forEach(staleDatasourceContextMono -> whenConnectionCreated(
+                staleDatasourceContextMono,
+                staleDatasourceContext -> destroyConnectionAsync(pluginExecutor, staleDatasourceContext)));
+
+        registerContextGauge(pluginExecutor);
+        if (datasourceContextMap.size() > datasourceContextConfig.getMaxCount()) {
+            Mono.fromRunnable(this::evictDatasourceContexts)
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .subscribe();
+        }
+
+        return datasourceContextMono;
+    }
+
+    /**
+     * Creates the publisher that connects to the datasource and fills the given datasource context. Nothing is done
+     * until it is subscribed to, and the result is cached so that further evaluations don't result in new connections.
+     * If connecting fails, the publisher and its context are removed from the cache maps so that they are never handed
+     * out again.
+     */
+    private Mono<DatasourceContext<Object>> createDatasourceContextMono(
+            DatasourceStorage datasourceStorage,
+            PluginExecutor<Object> pluginExecutor,
+            DatasourceContextIdentifier datasourceContextIdentifier,
+            DatasourceContext<Object> datasourceContext) {
+        // Deferred, since some plugins build their clients while assembling the publisher, and this method is called
+        // inside `compute`, where that would block every other key of the same bin of the map
+        return Mono.defer(() -> pluginExecutor.datasourceCreate(datasourceStorage.getDatasourceConfiguration()))
+                .flatMap(connection -> updateDatasourceAndSetAuthentication(connection, datasourceStorage))
+                .map(connection -> {
+                    /* When a connection object exists and makes sense for the plugin, we put it in the
+                    context. Example, DB plugins. */
+                    datasourceContext.setConnection(connection);
+                    return datasourceContext;
+                })
+                .defaultIfEmpty(
+                        /* When a connection object doesn't make sense for the plugin, we get an empty mono
+                        and we just return the context object as is. */
+                        datasourceContext)
+                .doOnError(error -> {
+                    if (datasourceContextIdentifier.isKeyValid()
+                            && datasourceContextMap.remove(datasourceContextIdentifier, datasourceContext)) {
+                        datasourceContextMonoMap.remove(datasourceContextIdentifier);
+                    }
+                })
+                .cache(); /* Cache the value so that further evaluations don't result in new connections */
+    }
+
+    /**
+     * Runs the given action once the connection of a context that is no longer cached has been created. The context can
+     * be dropped from the cache while it is still connecting, and its connection must not be leaked then. Publishers are
+     * cached, so this doesn't connect again when the connection already exists, and does nothing if connecting failed.
+     */
+    private static void whenConnectionCreated(
+            Mono<? extends DatasourceContext<?>> datasourceContextMono,
+            Consumer<DatasourceContext<?>> datasourceContextConsumer) {
+        datasourceContextMono.onErrorResume(error -> Mono.empty()).subscribe(datasourceContextConsumer);
+    }
+
+    /**
+     * Destroys the connection of a datasource context that is no longer cached on a bounded elastic thread, since
+     * closing connection pools may block.
+     */
+    private void destroyConnectionAsync(PluginExecutor<Object> pluginExecutor, DatasourceContext<?> datasourceContext) {
+        final Object connection = datasourceContext.getConnection();
+        if (connection == null) {
+            return;
+        }
+
+        Mono.fromRunnable(() -> pluginExecutor.datasourceDestroy(connection))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(error -> {
+                    log.info("Error destroying stale datasource connection", error);
+                    return Mono.empty();
+                })
+                .subscribe();
+    }
+
+    /**
+     * Destroys the connection of an evicted datasource context once it has not been handed out for the configured
+     * grace period. A context can still be in use by a query when it is evicted, either because it was handed out just
+     * before, or because it was handed out concurrently with its removal from the cache.
+     */
+    private void destroyConnectionAfterGracePeriod(
+            PluginExecutor<Object> pluginExecutor, DatasourceContext<?> datasourceContext) {
+        awaitGracePeriod(datasourceContext, Duration.ofSeconds(datasourceContextConfig.getEvictionGraceSeconds()))
+                .subscribe(null, null, () -> destroyConnectionAsync(pluginExecutor, datasourceContext));
+    }
+
+    private static Mono<Void> awaitGracePeriod(DatasourceContext<?> datasourceContext, Duration gracePeriod) {
+        return Mono.defer(() -> {
+            // Read again after every wait, since the context may have been handed out in the meantime
+            final Duration remainingGracePeriod = Duration.between(
+                    Instant.now(), datasourceContext.getLastAccessedTime().plus(gracePeriod));
+            if (remainingGracePeriod.isNegative() || remainingGracePeriod.isZero()) {
+                return Mono.empty();
             }
+            return Mono.delay(remainingGracePeriod).then(awaitGracePeriod(datasourceContext, gracePeriod));
+        });
+    }
 
-            /* Create a fresh datasource context */
-            DatasourceContext<Object> datasourceContext = new DatasourceContext<>();
-            if (datasourceContextIdentifier.isKeyValid()) {
-                /* For this datasource, either the context doesn't exist, or the context is stale. Replace (or add) with
-                the new connection in the context map. */
-                datasourceContextMap.put(datasourceContextIdentifier, datasourceContext);
+    /**
+     * Closes datasource contexts that have not been used for the configured idle timeout, and then the least recently
+     * used ones until at most the configured maximum number of contexts remain open. Contexts handed out within the
+     * eviction grace period are left alone, as they are likely still in use. This runs periodically, and also whenever
+     * a new context takes the count above the maximum.
+     */
+    @Scheduled(initialDelay = 60 * 1000 /* one minute */, fixedDelay = 60 * 1000 /* one minute */)
+    public void evictDatasourceContexts() {
+        if (!isEvictionRunning.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            final Instant idleCutoff =
+                    Instant.now().minus(Duration.ofMinutes(datasourceContextConfig.getIdleTimeoutMinutes()));
+            final Instant inUseCutoff =
+                    Instant.now().minus(Duration.ofSeconds(datasourceContextConfig.getEvictionGraceSeconds()));
+            // Snapshot access times first, as they keep changing while we sort and evict
+            final Map<DatasourceContextIdentifier, Instant> lastAccessedTimes = new HashMap<>();
+            datasourceContextMap.forEach((identifier, datasourceContext) ->
+                    lastAccessedTimes.put(identifier, datasourceContext.getLastAccessedTime()));
+            final List<DatasourceContextIdentifier> identifiers = new ArrayList<>(lastAccessedTimes.keySet());
+            identifiers.sort(Comparator.comparing(lastAccessedTimes::get));
+
+            int excessCount = identifiers.size() - datasourceContextConfig.getMaxCount();
+            for (DatasourceContextIdentifier identifier : identifiers) {
+                final Instant lastAccessedTime = lastAccessedTimes.get(identifier);
+                final boolean isIdle = lastAccessedTime.isBefore(idleCutoff);
+                if (!isIdle && (excessCount <= 0 || !lastAccessedTime.isBefore(inUseCutoff))) {
+                    // Identifiers are sorted by last access, so the rest are neither idle nor can be evicted for
+                    // capacity
+                    break;
+                }
+
+                final DatasourceContext<?> evictedDatasourceContext =
+                        evictDatasourceContext(identifier, lastAccessedTime);
+                if (evictedDatasourceContext != null) {
+                    excessCount--;
+                    meterRegistry
+                            .counter(
+                                    "appsmith.datasource.contexts.evicted",
+                                    "plugin",
+                                    getPluginName(evictedDatasourceContext.getPluginExecutor()),
+                                    "reason",
+                                    isIdle ? "idle" : "capacity")
+                            .increment();
+                }
             }
+        } finally {
+            isEvictionRunning.set(false);
+        }
+    }
 
-            Mono<Object> connectionMonoCache = pluginExecutor
-                    .datasourceCreate(datasourceStorage.getDatasourceConfiguration())
-                    .cache();
-
-            Mono<DatasourceContext<Object>> datasourceContextMonoCache = connectionMonoCache
-                    .flatMap(connection -> updateDatasourceAndSetAuthentication(connection, datasourceStorage))
-                    .map(connection -> {
-                        /* When a connection object exists and makes sense for the plugin, we put it in the
-                        context. Example, DB plugins. */
-                        datasourceContext.setConnection(connection);
-                        return datasourceContext;
-                    })
-                    .defaultIfEmpty(
-                            /* When a connection object doesn't make sense for the plugin, we get an empty mono
-                            and we just return the context object as is. */
-                            datasourceContext)
-                    .cache(); /* Cache the value so that further evaluations don't result in new connections */
-
-            if (datasourceContextIdentifier.isKeyValid()) {
-                datasourceContextMonoMap.put(datasourceContextIdentifier, datasourceContextMonoCache);
+    /**
+     * Removes the context of the given datasource from both cache maps, unless it has been used since the given time,
+     * and destroys its connection once the grace period after its last use is over. A context that is still
+     * connecting has its connection destroyed once it exists.
+     *
+     * @return the evicted context, or null if nothing was evicted
+     */
+    private DatasourceContext<?> evictDatasourceContext(
+            DatasourceContextIdentifier datasourceContextIdentifier, Instant lastAccessedTime) {
+        final List<DatasourceContext<?>> evictedDatasourceContexts = new ArrayList<>(1);
+        final List<Mono<? extends DatasourceContext<?>>> evictedDatasourceContextMonos = new ArrayList<>(1);
+        // Runs under the same lock as getCachedDatasourceContextMono, so that a context is not removed while that
+        // method hands it out. Hand-outs from getDatasourceContext, and queries still running on the context, are
+        // covered by the grace period before the connection gets destroyed.
+        datasourceContextMonoMap.computeIfPresent(datasourceContextIdentifier, (identifier, datasourceContextMono) -> {
+            final DatasourceContext<?> datasourceContext = datasourceContextMap.get(identifier);
+            if (datasourceContext == null
+                    || !lastAccessedTime.equals(datasourceContext.getLastAccessedTime())
+                    || !datasourceContextMap.remove(identifier, datasourceContext)) {
+                return datasourceContextMono;
             }
-            return datasourceContextMonoCache;
+            evictedDatasourceContexts.add(datasourceContext);
+            evictedDatasourceContextMonos.add(datasourceContextMono);
+            return null;
+        });
+
+        if (evictedDatasourceContexts.isEmpty()) {
+            return null;
+        }
+
+        final DatasourceContext<?> evictedDatasourceContext = evictedDatasourceContexts.get(0);
+        log.debug("Evicting datasource context for datasource ID {}.", datasourceContextIdentifier.getDatasourceId());
+        final PluginExecutor<Object> pluginExecutor = evictedDatasourceContext.getPluginExecutor();
+        if (pluginExecutor != null) {
+            whenConnectionCreated(
+                    evictedDatasourceContextMonos.get(0),
+                    datasourceContext -> destroyConnectionAfterGracePeriod(pluginExecutor, datasourceContext));
         }
+        return evictedDatasourceContext;
+    }
+
+    /**
+     * Publishes the number of open datasource contexts of the given plugin, once per plugin.
+     */
+    private void registerContextGauge(PluginExecutor<Object> pluginExecutor) {
+        final String pluginName = getPluginName(pluginExecutor);
+        if (!pluginsWithContextGauge.add(pluginName)) {
+            return;
+        }
+
+        Gauge.builder(
+                        "appsmith.datasource.contexts.open",
+                        datasourceContextMap,
+                        contextMap -> contextMap.values().stream()
+                                .filter(datasourceContext ->
+                                        pluginName.equals(getPluginName(datasourceContext.getPluginExecutor())))
+                                .count())
+                .tag("plugin", pluginName)
+                .register(meterRegistry);
+    }
+
+    private static String getPluginName(PluginExecutor<?> pluginExecutor) {
+        return pluginExecutor == null ? "unknown" : pluginExecutor.getClass().getSimpleName();
     }
 
     public Mono<Object> updateDatasourceAndSetAuthentication(Object connection, DatasourceStorage datasourceStorage) {
@@ -164,31 +377,10 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
         log.debug("Datasource context doesn't exist. Creating connection.");
         Mono<Plugin> pluginMono = pluginService.findById(datasourceStorage.getPluginId());
 
-        return pluginExecutorHelper.getPluginExecutor(pluginMono).flatMap(pluginExecutor -> {
-
-            /**
-             * Keep one monitor object against each datasource id. The synchronized method
-             * `getCachedDatasourceContextMono` would then acquire lock on the monitor object which is unique
-             * for each datasourceId hence ensuring that if competing threads want to create datasource context
-             * on different datasource id then they are not blocked on each other and can run concurrently.
-             * Only threads that want to create a new datasource context on the same datasource id would be
-             * synchronized.
-             */
-            Object monitor = new Object();
-            if (datasourceContextIdentifier.isKeyValid()) {
-                if (datasourceContextSynchronizationMonitorMap.get(datasourceContextIdentifier) == null) {
-                    synchronized (this) {
-                        datasourceContextSynchronizationMonitorMap.computeIfAbsent(
-                                datasourceContextIdentifier, k -> new Object());
-                    }
-                }
-
-                monitor = datasourceContextSynchronizationMonitorMap.get(datasourceContextIdentifier);
-            }
-
-            return getCachedDatasourceContextMono(
-                    datasourceStorage, pluginExecutor, monitor, datasourceContextIdentifier);
-        });
+        return pluginExecutorHelper
+                .getPluginExecutor(pluginMono)
+                .flatMap(pluginExecutor ->
+                        getCachedDatasourceContextMono(datasourceStorage, pluginExecutor, datasourceContextIdentifier));
     }
 
     public boolean getIsStale(
@@ -204,30 +396,14 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
                                 .getCreationTime());
     }
 
-    /**
-     * This function checks if the cached datasource context mono is in error state
-     *
-     * @param datasourceContextIdentifier
-     * @return boolean
-     */
-    private boolean getIsInErrorState(DatasourceContextIdentifier datasourceContextIdentifier) {
-        return datasourceContextMonoMap.get(datasourceContextIdentifier) != null
-                && datasourceContextMonoMap
-                        .get(datasourceContextIdentifier)
-                        .toFuture()
-                        .isCompletedExceptionally();
-    }
-
     public boolean isValidDatasourceContextAvailable(
             DatasourceStorage datasourceStorage, DatasourceContextIdentifier datasourceContextIdentifier) {
         boolean isStale = getIsStale(datasourceStorage, datasourceContextIdentifier);
-        boolean isInErrorState = getIsInErrorState(datasourceContextIdentifier);
         return datasourceContextMap.get(datasourceContextIdentifier) != null
                 // The following condition happens when there's a timeout in the middle of destroying a connection and
                 // the reactive flow interrupts, resulting in the destroy operation not completing.
                 && datasourceContextMap.get(datasourceContextIdentifier).getConnection() != null
-                && !isStale
-                && !isInErrorState;
+                && !isStale;
     }
 
     @Override
@@ -241,8 +417,16 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
                             + "scenario");
         } else {
             if (isValidDatasourceContextAvailable(datasourceStorage, datasourceContextIdentifier)) {
-                log.debug("Resource context exists. Returning the same.");
-                return Mono.just(datasourceContextMap.get(datasourceContextIdentifier));
+                final DatasourceContext<?> datasourceContext = datasourceContextMap.get(datasourceContextIdentifier);
+                if (datasourceContext != null) {
+                    datasourceContext.setLastAccessedTime(Instant.now());
+                    // If the context is still cached after being marked as used, any eviction that removes it from now
+                    // on waits for the grace period before destroying its connection
+                    if (datasourceContextMap.get(datasourceContextIdentifier) == datasourceContext) {
+                        log.debug("Resource context exists. Returning the same.");
+                        return Mono.just(datasourceContext);
+                    }
+                }
             }
         }
         return createNewDatasourceContext(datasourceStorage, datasourceContextIdentifier);
@@ -323,7 +507,6 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
      * Generates the custom key that is used in:
      * datasourceContextMap
      * datasourceContextMonoMap
-     * datasourceContextSynchronizationMonitorMap
      *
      * @param datasourceStorage
      * @return an DatasourceContextIdentifier object
@@ -14,18 +14,24 @@ import com.appsmith.server.services.CacheableFeatureFlagHelper;
 import com.appsmith.server.services.SessionUserService;
 import com.appsmith.server.services.TenantService;
 import com.appsmith.server.services.UserIdentifierService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.ff4j.FF4j;
 import org.ff4j.core.FlippingExecutionContext;
+import org.springframework.scheduling.annotation.Scheduled;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.function.Tuple2;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.lang.Boolean.TRUE;
 
@@ -46,8 +52,40 @@ public class FeatureFlagServiceCEImpl implements FeatureFlagServiceCE {
     private final FeatureFlagMigrationHelper featureFlagMigrationHelper;
     private static final long FEATURE_FLAG_CACHE_TIME_MIN = 120;
 
+    // Flags of active users are refreshed this long before they expire, so that requests don't find them expired
+    private static final long FEATURE_FLAG_PREFETCH_TIME_MIN = 10;
+
+    private static final int MAX_LOCAL_USER_FLAGS = 10000;
+
+    private static final int USER_FLAGS_REFRESH_CONCURRENCY = 4;
+
     private CachedFeatures cachedTenantFeatureFlags;
 
+    /**
+     * Remote flags of the users that were active recently, kept in memory in front of the redis cache. Expired flags
+     * are served as they are while being refreshed in the background. Refreshes update the entries in place, since
+     * writing them to the cache would reset their expiry and keep users that went idle in memory.
+     */
+    private final Cache<String, LocalUserFlags> localUserFlags = Caffeine.newBuilder()
+            .maximumSize(MAX_LOCAL_USER_FLAGS)
+            .expireAfterAccess(Duration.ofMinutes(FEATURE_FLAG_CACHE_TIME_MIN))
+            .build();
+
+    private final Set<String> userIdentifiersBeingRefreshed = ConcurrentHashMap.newKeySet();
+
+    private static final class LocalUserFlags {
+        private final User user;
+        private volatile CachedFlags cachedFlags;
+        // Set by requests of the user only, so that background refreshes don't make an idle user look active
+        private volatile Instant lastAccessedAt;
+
+        private LocalUserFlags(User user, CachedFlags cachedFlags) {
+            this.user = user;
+            this.cachedFlags = cachedFlags;
+            this.lastAccessedAt = Instant.now();
+        }
+    }
+
     private Mono<Boolean> checkAll(String featureName, User user) {
         Boolean check = check(featureName, user);
 
@@ -127,7 +165,8 @@ public class FeatureFlagServiceCEImpl implements FeatureFlagServiceCE {
     }
 
     /**
-     * This function fetches remote flags (i.e. flagsmith flags)
+     * This function fetches remote flags (i.e. flagsmith flags). These are served from memory when possible, and
+     * refreshed in the background once expired, so that requests don't wait on cloud services.
      *
      * @return
      */
@@ -135,34 +174,88 @@ public class FeatureFlagServiceCEImpl implements FeatureFlagServiceCE {
         Mono<User> userMono = sessionUserService.getCurrentUser().cache();
         return userMono.flatMap(user -> {
             String userIdentifier = userIdentifierService.getUserIdentifier(user);
-            // Checks for flags present in cache and if the cache is not expired
+            LocalUserFlags localFlags = localUserFlags.getIfPresent(userIdentifier);
+            if (localFlags != null) {
+                localFlags.lastAccessedAt = Instant.now();
+                refreshUserFlagsInBackgroundIfExpired(userIdentifier, localFlags, 0);
+                return Mono.just(localFlags.cachedFlags.getFlags());
+            }
+
+            // Checks for flags present in cache, the expired ones get refreshed in the background
             return cacheableFeatureFlagHelper
                     .fetchUserCachedFlags(userIdentifier, user)
-                    .flatMap(cachedFlags -> {
-                        if (cachedFlags.getRefreshedAt().until(Instant.now(), ChronoUnit.MINUTES)
-                                < FEATURE_FLAG_CACHE_TIME_MIN) {
-                            return Mono.just(cachedFlags.getFlags());
-                        } else {
-                            // empty the cache for the userIdentifier as expired
-                            return cacheableFeatureFlagHelper
-                                    .evictUserCachedFlags(userIdentifier)
-                                    .then(cacheableFeatureFlagHelper.fetchUserCachedFlags(userIdentifier, user))
-                                    .flatMap(cachedFlagsUpdated -> {
-                                        // In case the retrieval of the latest flags from CS encounters an error, the
-                                        // previous flags will serve as a fallback value.
-                                        if (cachedFlagsUpdated == null
-                                                || CollectionUtils.isNullOrEmpty(cachedFlagsUpdated.getFlags())) {
-                                            return cacheableFeatureFlagHelper
-                                                    .updateUserCachedFlags(userIdentifier, cachedFlags)
-                                                    .map(CachedFlags::getFlags);
-                                        }
-                                        return Mono.just(cachedFlagsUpdated.getFlags());
-                                    });
-                        }
+                    .map(cachedFlags -> {
+                        LocalUserFlags fetchedFlags = new LocalUserFlags(user, cachedFlags);
+                        localUserFlags.put(userIdentifier, fetchedFlags);
+                        refreshUserFlagsInBackgroundIfExpired(userIdentifier, fetchedFlags, 0);
+                        return cachedFlags.getFlags();
                     });
         });
     }
 
+    /**
+     * Refreshes the flags of the users that were active recently and are about to expire, so that the next requests
+     * of these users find them up-to-date. Users that made no request since their flags were last fetched are
+     * dropped instead.
+     */
+    @Scheduled(initialDelay = 5 * 60 * 1000 /* five minutes */, fixedDelay = 5 * 60 * 1000 /* five minutes */)
+    public void refreshLocalUserFlags() {
+        Instant idleSince = Instant.now().minus(FEATURE_FLAG_CACHE_TIME_MIN, ChronoUnit.MINUTES);
+        localUserFlags.asMap().values().removeIf(localFlags -> localFlags.lastAccessedAt.isBefore(idleSince));
+
+        Flux.fromIterable(localUserFlags.asMap().entrySet())
+                .filter(entry -> isExpired(entry.getValue().cachedFlags, FEATURE_FLAG_PREFETCH_TIME_MIN))
+                .flatMap(entry -> refreshUserFlags(entry.getKey(), entry.getValue()), USER_FLAGS_REFRESH_CONCURRENCY)
+                .subscribe();
+    }
+
+    private void refreshUserFlagsInBackgroundIfExpired(
+            String userIdentifier, LocalUserFlags localFlags, long minutesBeforeExpiry) {
+        if (isExpired(localFlags.cachedFlags, minutesBeforeExpiry)) {
+            refreshUserFlags(userIdentifier, localFlags).subscribe();
+        }
+    }
+
+    private static boolean isExpired(CachedFlags cachedFlags, long minutesBeforeExpiry) {
+        return cachedFlags.getRefreshedAt().until(Instant.now(), ChronoUnit.MINUTES)
+                >= FEATURE_FLAG_CACHE_TIME_MIN - minutesBeforeExpiry;
+    }
+
+    /**
+     * Fetches the latest flags of the user from cloud services into the redis and local caches. Only one refresh runs
+     * at a time for a user, other calls complete right away.
+     */
+    private Mono<CachedFlags> refreshUserFlags(String userIdentifier, LocalUserFlags localFlags) {
+        return Mono.defer(() -> {
+            if (!userIdentifiersBeingRefreshed.add(userIdentifier)) {
+                return Mono.empty();
+            }
+
+            User user = localFlags.user;
+            CachedFlags cachedFlags = localFlags.cachedFlags;
+
+            // empty the cache for the userIdentifier as expired
+            return cacheableFeatureFlagHelper
+                    .evictUserCachedFlags(userIdentifier)
+                    .then(cacheableFeatureFlagHelper.fetchUserCachedFlags(userIdentifier, user))
+                    .flatMap(cachedFlagsUpdated -> {
+                        // In case the retrieval of the latest flags from CS encounters an error, the
+                        // previous flags will serve as a fallback value.
+                        if (cachedFlagsUpdated == null
+                                || CollectionUtils.isNullOrEmpty(cachedFlagsUpdated.getFlags())) {
+                            return cacheableFeatureFlagHelper.updateUserCachedFlags(userIdentifier, cachedFlags);
+                        }
+                        return Mono.just(cachedFlagsUpdated);
+                    })
+                    .doOnNext(updatedFlags -> localFlags.cachedFlags = updatedFlags)
+                    .onErrorResume(error -> {
+                        log.debug("Failed to refresh feature flags for user: {}", error.getMessage());
+                        return Mono.empty();
+                    })
+                    .doFinally(signalType -> userIdentifiersBeingRefreshed.remove(userIdentifier));
+        });
+    }
+
     /**
      * To get all features of the tenant from Cloud Services and store them locally
      * @return Mono of Void
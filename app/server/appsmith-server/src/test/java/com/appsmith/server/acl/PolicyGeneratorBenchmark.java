@@ -0,0 +1,87 @@
+package com.appsmith.server.acl;
+
+import com.appsmith.external.models.Policy;
+import com.appsmith.server.domains.Action;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.Page;
+import com.appsmith.server.domains.Workspace;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures the derivation of policies for new documents, as done for every application, page and action that is
+ * created, cloned, forked or imported. Run it with the `main` method, after compiling the test classes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class PolicyGeneratorBenchmark {
+
+    private final PolicyGenerator policyGenerator = new PolicyGenerator();
+
+    private Set<Policy> workspacePolicies;
+
+    private Set<Policy> pagePolicies;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        policyGenerator.createPolicyGraph();
+
+        workspacePolicies = Set.of(
+                        AclPermission.MANAGE_WORKSPACES,
+                        AclPermission.READ_WORKSPACES,
+                        AclPermission.WORKSPACE_MANAGE_APPLICATIONS,
+                        AclPermission.WORKSPACE_READ_APPLICATIONS,
+                        AclPermission.WORKSPACE_PUBLISH_APPLICATIONS,
+                        AclPermission.WORKSPACE_EXPORT_APPLICATIONS,
+                        AclPermission.WORKSPACE_DELETE_APPLICATIONS)
+                .stream()
+                .map(permission -> Policy.builder()
+                        .permission(permission.getValue())
+                        .permissionGroups(Set.of("administrator", "developer", "viewer"))
+                        .build())
+                .collect(Collectors.toSet());
+
+        pagePolicies = policyGenerator.getAllChildPolicies(
+                policyGenerator.getAllChildPolicies(workspacePolicies, Workspace.class, Application.class),
+                Application.class,
+                Page.class);
+    }
+
+    @Benchmark
+    public Set<Policy> deriveApplicationPolicies() {
+        return policyGenerator.getAllChildPolicies(workspacePolicies, Workspace.class, Application.class);
+    }
+
+    @Benchmark
+    public Set<Policy> deriveActionPolicies() {
+        return policyGenerator.getAllChildPolicies(pagePolicies, Page.class, Action.class);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(PolicyGeneratorBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,117 @@
+package com.appsmith.server.acl;
+
+import com.appsmith.external.models.BaseDomain;
+import com.appsmith.external.models.Policy;
+import com.appsmith.server.domains.Action;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.Page;
+import com.appsmith.server.domains.Workspace;
+import org.jgrapht.Graph;
+import org.jgrapht.graph.DefaultEdge;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PolicyGeneratorTest {
+
+    private final PolicyGenerator policyGenerator = createPolicyGenerator();
+
+    private static PolicyGenerator createPolicyGenerator() {
+        PolicyGenerator policyGenerator = new PolicyGenerator();
+        policyGenerator.createPolicyGraph();
+        return policyGenerator;
+    }
+
+    @Test
+    void getChildPolicies_forEveryPermissionAndEntity_matchesPolicyGraphs() {
+        Set<Class<? extends BaseDomain>> entities = Arrays.stream(AclPermission.values())
+                .map(AclPermission::getEntity)
+                .collect(Collectors.toSet());
+
+        for (AclPermission permission : AclPermission.values()) {
+            for (Class<? extends BaseDomain> entity : entities) {
+                Policy policy = Policy.builder()
+                        .permission(permission.getValue())
+                        .permissionGroups(Set.of("permission-group-id"))
+                        .build();
+
+                Set<String> childPermissions = policyGenerator.getChildPolicies(policy, permission, entity).stream()
+                        .map(Policy::getPermission)
+                        .collect(Collectors.toSet());
+
+                assertThat(childPermissions)
+                        .as("child permissions of %s for %s", permission, entity.getSimpleName())
+                        .isEqualTo(getChildPermissionsFromGraphs(permission, entity));
+            }
+        }
+    }
+
+    @Test
+    void getAllChildPolicies_withSharedChildPermission_mergesPermissionGroups() {
+        Set<Policy> workspacePolicies = Set.of(
+                Policy.builder()
+                        .permission(AclPermission.WORKSPACE_MANAGE_APPLICATIONS.getValue())
+                        .permissionGroups(Set.of("administrator"))
+                        .build(),
+                Policy.builder()
+                        .permission(AclPermission.WORKSPACE_READ_APPLICATIONS.getValue())
+                        .permissionGroups(Set.of("viewer"))
+                        .build());
+
+        Map<String, Set<String>> applicationPolicies =
+                policyGenerator.getAllChildPolicies(workspacePolicies, Workspace.class, Application.class).stream()
+                        .collect(Collectors.toMap(Policy::getPermission, Policy::getPermissionGroups));
+
+        assertThat(applicationPolicies.get(AclPermission.READ_APPLICATIONS.getValue()))
+                .containsExactlyInAnyOrder("administrator", "viewer");
+        assertThat(applicationPolicies.get(AclPermission.MANAGE_APPLICATIONS.getValue()))
+                .containsExactly("administrator");
+    }
+
+    @Test
+    void getAllChildPolicies_withUnknownPermission_ignoresPolicy() {
+        Set<Policy> pagePolicies = Set.of(
+                Policy.builder()
+                        .permission("unknown:permission")
+                        .permissionGroups(Set.of("developer"))
+                        .build(),
+                Policy.builder()
+                        .permission(AclPermission.READ_PAGES.getValue())
+                        .permissionGroups(Set.of("viewer"))
+                        .build());
+
+        Map<String, Set<String>> actionPolicies =
+                policyGenerator.getAllChildPolicies(pagePolicies, Page.class, Action.class).stream()
+                        .collect(Collectors.toMap(Policy::getPermission, Policy::getPermissionGroups));
+
+        assertThat(actionPolicies).containsOnlyKeys(AclPermission.EXECUTE_ACTIONS.getValue());
+        assertThat(actionPolicies.get(AclPermission.EXECUTE_ACTIONS.getValue())).containsExactly("viewer");
+    }
+
+    private Set<String> getChildPermissionsFromGraphs(AclPermission permission, Class<? extends BaseDomain> entity) {
+        Graph<AclPermission, DefaultEdge> hierarchyGraph = policyGenerator.getHierarchyGraph();
+        Graph<AclPermission, DefaultEdge> lateralGraph = policyGenerator.getLateralGraph();
+
+        Set<AclPermission> childPermissions = new HashSet<>();
+        for (DefaultEdge edge : hierarchyGraph.outgoingEdgesOf(permission)) {
+            AclPermission childPermission = hierarchyGraph.getEdgeTarget(edge);
+            childPermissions.add(childPermission);
+            lateralGraph.outgoingEdgesOf(childPermission).stream()
+                    .map(lateralGraph::getEdgeTarget)
+                    .forEach(childPermissions::add);
+        }
+
+        Map<String, AclPermission> permissionsByValue = new HashMap<>();
+        childPermissions.stream()
+                .filter(childPermission -> childPermission.getEntity().equals(entity))
+                .forEach(childPermission -> permissionsByValue.put(childPermission.getValue(), childPermission));
+        return permissionsByValue.keySet();
+    }
+}
@@ -0,0 +1,82 @@
+package com.appsmith.server.controllers;
+
+import com.appsmith.server.configurations.RedisTestContainerConfig;
+import com.appsmith.server.configurations.SecurityTestConfig;
+import com.appsmith.server.constants.Url;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.dtos.ApplicationViewDTO;
+import com.appsmith.server.helpers.GitFileUtils;
+import com.appsmith.server.helpers.RedisUtils;
+import com.appsmith.server.services.AnalyticsService;
+import com.appsmith.server.services.ApplicationViewService;
+import com.appsmith.server.services.SessionUserService;
+import com.appsmith.server.services.UserDataService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(SpringExtension.class)
+@WebFluxTest(ApplicationViewController.class)
+@Import({SecurityTestConfig.class, RedisUtils.class, RedisTestContainerConfig.class})
+public class ApplicationViewControllerTest {
+    @MockBean
+    ApplicationViewService applicationViewService;
+
+    @MockBean
+    UserDataService userDataService;
+
+    @MockBean
+    AnalyticsService analyticsService;
+
+    @MockBean
+    GitFileUtils gitFileUtils;
+
+    @MockBean
+    SessionUserService sessionUserService;
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    @WithMockUser
+    public void getApplicationView_withMatchingETag_returnsNotModified() {
+        Application application = new Application();
+        application.setId("applicationId");
+        ApplicationViewDTO applicationViewDTO = new ApplicationViewDTO();
+        applicationViewDTO.setApplication(application);
+        applicationViewDTO.setETag("\"viewVersion\"");
+
+        Mockito.when(applicationViewService.getApplicationView("applicationId", null))
+                .thenReturn(Mono.just(applicationViewDTO));
+
+        webTestClient
+                .get()
+                .uri(Url.APPLICATION_URL + "/view/applicationId/bootstrap")
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectHeader()
+                .valueEquals("ETag", "\"viewVersion\"")
+                .expectBody()
+                .jsonPath("$.data.application.id")
+                .isEqualTo("applicationId");
+
+        webTestClient
+                .get()
+                .uri(Url.APPLICATION_URL + "/view/applicationId/bootstrap")
+                .header("If-None-Match", "\"viewVersion\"")
+                .exchange()
+                .expectStatus()
+                .isNotModified()
+                .expectBody()
+                .isEmpty();
+    }
+}
@@ -0,0 +1,89 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.server.configurations.SegmentConfig;
+import com.segment.analytics.Analytics;
+import com.segment.analytics.messages.IdentifyMessage;
+import com.segment.analytics.messages.MessageBuilder;
+import com.segment.analytics.messages.TrackMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AnalyticsEventQueueTest {
+
+    private final Analytics analytics = Mockito.mock(Analytics.class);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final CountDownLatch segmentBlocked = new CountDownLatch(1);
+
+    private AnalyticsEventQueue analyticsEventQueue;
+
+    @BeforeEach
+    public void setUp() {
+        SegmentConfig segmentConfig = Mockito.mock(SegmentConfig.class);
+        Mockito.when(segmentConfig.getQueueCapacity()).thenReturn(3);
+        analyticsEventQueue = new AnalyticsEventQueue(analytics, segmentConfig, meterRegistry);
+
+        // The first event keeps the Segment client busy, so that the events after it wait in the queue
+        Mockito.doAnswer(invocation -> segmentBlocked.await(10, TimeUnit.SECONDS))
+                .doNothing()
+                .when(analytics)
+                .enqueue(Mockito.any());
+        analyticsEventQueue.enqueue(TrackMessage.builder("first_event").userId("user"));
+        Mockito.verify(analytics, Mockito.timeout(5000)).enqueue(Mockito.any());
+    }
+
+    @Test
+    public void enqueue_whenQueueIsFull_dropsEventsAndCountsThem() {
+        for (int i = 0; i < 5; i++) {
+            analyticsEventQueue.enqueue(TrackMessage.builder("event_" + i).userId("user"));
+        }
+        assertThat(meterRegistry.get("appsmith.analytics.queue.size").gauge().value())
+                .isEqualTo(3);
+
+        segmentBlocked.countDown();
+
+        Mockito.verify(analytics, Mockito.timeout(5000).times(4)).enqueue(Mockito.any());
+        assertThat(getEventCount("dropped")).isEqualTo(2);
+        assertThat(getEventCount("sent")).isEqualTo(4);
+    }
+
+    @Test
+    public void enqueueIdentify_forSameUser_sendsOnlyLatestTraits() {
+        MessageBuilder<?, ?> olderIdentify =
+                IdentifyMessage.builder().userId("user").traits(Map.of("goal", "old"));
+        MessageBuilder<?, ?> latestIdentify =
+                IdentifyMessage.builder().userId("user").traits(Map.of("goal", "new"));
+        MessageBuilder<?, ?> track = TrackMessage.builder("second_event").userId("user");
+        analyticsEventQueue.enqueueIdentify("user", olderIdentify);
+        analyticsEventQueue.enqueue(track);
+        analyticsEventQueue.enqueueIdentify("user", latestIdentify);
+
+        segmentBlocked.countDown();
+
+        ArgumentCaptor<MessageBuilder> captor = ArgumentCaptor.forClass(MessageBuilder.class);
+        Mockito.verify(analytics, Mockito.timeout(5000).times(3)).enqueue(captor.capture());
+        Mockito.verify(analytics, Mockito.timeout(5000)).flush();
+        assertThat(captor.getAllValues())
+                .containsSequence(track, latestIdentify)
+                .doesNotContain(olderIdentify);
+        assertThat(getEventCount("coalesced")).isEqualTo(1);
+    }
+
+    private double getEventCount(String result) {
+        return meterRegistry
+                .get("appsmith.analytics.events")
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+}
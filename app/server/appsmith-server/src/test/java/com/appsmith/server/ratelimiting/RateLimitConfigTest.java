@@ -0,0 +1,47 @@
+package com.appsmith.server.ratelimiting;
+
+import com.appsmith.server.constants.RateLimitConstants;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.distributed.proxy.optimization.batch.BatchingOptimization;
+import io.github.bucket4j.distributed.proxy.optimization.delay.DelayOptimization;
+import io.lettuce.core.RedisClient;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RateLimitConfigTest {
+
+    private final RateLimitConfig rateLimitConfig =
+            new RateLimitConfig(Mockito.mock(RedisClient.class), "signup:20:3600, invalid:20, negative:-1:60", 10, 60);
+
+    @Test
+    public void getApiConfiguration_withConfiguredApi_usesItsLimit() {
+        BucketConfiguration configuration = rateLimitConfig.getApiConfiguration("signup");
+
+        assertThat(configuration.getBandwidths()[0].getCapacity()).isEqualTo(20);
+    }
+
+    @Test
+    public void getApiConfiguration_withUnconfiguredOrInvalidApi_usesDefaultLimit() {
+        BucketConfiguration defaultConfiguration =
+                rateLimitConfig.getApiConfiguration(RateLimitConstants.BUCKET_KEY_FOR_LOGIN_API);
+
+        assertThat(rateLimitConfig.getApiConfiguration("unknown")).isSameAs(defaultConfiguration);
+        assertThat(rateLimitConfig.getApiConfiguration("invalid")).isSameAs(defaultConfiguration);
+        assertThat(rateLimitConfig.getApiConfiguration("negative")).isSameAs(defaultConfiguration);
+    }
+
+    @Test
+    public void getOptimization_withLargeLimit_synchronizesPartOfItLazily() {
+        assertThat(RateLimitConfig.getOptimization(rateLimitConfig.getApiConfiguration("signup")))
+                .isInstanceOf(DelayOptimization.class);
+    }
+
+    @Test
+    public void getOptimization_withLimitTooSmallToSplit_batchesEveryRequest() {
+        assertThat(RateLimitConfig.getOptimization(
+                        rateLimitConfig.getApiConfiguration(RateLimitConstants.BUCKET_KEY_FOR_LOGIN_API)))
+                .isInstanceOf(BatchingOptimization.class);
+    }
+}
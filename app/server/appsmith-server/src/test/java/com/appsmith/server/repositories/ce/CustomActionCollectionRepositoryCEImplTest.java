@@ -1,17 +1,21 @@
 package com.appsmith.server.repositories.ce;
 
 import com.appsmith.server.domains.ActionCollection;
+import com.appsmith.server.dtos.ActionCollectionDTO;
 import com.appsmith.server.repositories.ActionCollectionRepository;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -24,6 +28,9 @@ public class CustomActionCollectionRepositoryCEImplTest {
     @Autowired
     ActionCollectionRepository actionCollectionRepository;
 
+    @Autowired
+    ReactiveMongoOperations mongoOperations;
+
     @Test
     public void bulkUpdate_WhenIdMatches_ActionCollectionsUpdated() {
         String applicationId = UUID.randomUUID().toString();
@@ -102,4 +109,79 @@ public class CustomActionCollectionRepositoryCEImplTest {
                 })
                 .verifyComplete();
     }
+
+    @Test
+    public void publishActionCollections_WhenUnpublishedCollectionChanged_CopiedToPublished() {
+        String applicationId = UUID.randomUUID().toString();
+        ActionCollection actionCollection = new ActionCollection();
+        actionCollection.setApplicationId(applicationId);
+        actionCollection.setUnpublishedCollection(getActionCollectionDTO("unpublishedName"));
+        actionCollection.setPublishedCollection(getActionCollectionDTO("publishedName"));
+        ActionCollection savedActionCollection =
+                actionCollectionRepository.save(actionCollection).block();
+        // Taken after saving, since saving sets the update time too, and truncated to what the database stores
+        Instant beforePublish = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+        Mono<ActionCollection> publishedActionCollectionMono = actionCollectionRepository
+                .publishActionCollections(applicationId, null)
+                .then(mongoOperations.findById(savedActionCollection.getId(), ActionCollection.class));
+
+        StepVerifier.create(publishedActionCollectionMono)
+                .assertNext(publishedActionCollection -> {
+                    assertThat(publishedActionCollection
+                                    .getPublishedCollection()
+                                    .getName())
+                            .isEqualTo("unpublishedName");
+                    assertThat(publishedActionCollection
+                                    .getUnpublishedCollection()
+                                    .getName())
+                            .isEqualTo("unpublishedName");
+                    assertThat(publishedActionCollection.getUpdatedAt()).isAfterOrEqualTo(beforePublish);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void archiveDeletedUnpublishedActionCollections_WhenDeletedInEditMode_Archived() {
+        String applicationId = UUID.randomUUID().toString();
+        ActionCollection deletedActionCollection = new ActionCollection();
+        deletedActionCollection.setApplicationId(applicationId);
+        ActionCollectionDTO deletedCollection = getActionCollectionDTO("deletedName");
+        deletedCollection.setDeletedAt(Instant.now());
+        deletedActionCollection.setUnpublishedCollection(deletedCollection);
+        ActionCollection activeActionCollection = new ActionCollection();
+        activeActionCollection.setApplicationId(applicationId);
+        activeActionCollection.setUnpublishedCollection(getActionCollectionDTO("activeName"));
+        List<ActionCollection> savedActionCollections = actionCollectionRepository
+                .saveAll(List.of(deletedActionCollection, activeActionCollection))
+                .collectList()
+                .block();
+        Instant beforeArchive = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+        Mono<List<ActionCollection>> actionCollectionsMono = actionCollectionRepository
+                .archiveDeletedUnpublishedActionCollections(applicationId, null)
+                .thenMany(Flux.fromIterable(savedActionCollections)
+                        .concatMap(savedActionCollection ->
+                                mongoOperations.findById(savedActionCollection.getId(), ActionCollection.class)))
+                .collectList();
+
+        StepVerifier.create(actionCollectionsMono)
+                .assertNext(actionCollections -> {
+                    ActionCollection archivedActionCollection = actionCollections.get(0);
+                    assertThat(archivedActionCollection.getDeleted()).isTrue();
+                    assertThat(archivedActionCollection.getDeletedAt()).isNotNull();
+                    assertThat(archivedActionCollection.getUpdatedAt()).isAfterOrEqualTo(beforeArchive);
+
+                    ActionCollection untouchedActionCollection = actionCollections.get(1);
+                    assertThat(untouchedActionCollection.getDeleted()).isFalse();
+                    assertThat(untouchedActionCollection.getDeletedAt()).isNull();
+                })
+                .verifyComplete();
+    }
+
+    private static ActionCollectionDTO getActionCollectionDTO(String name) {
+        ActionCollectionDTO actionCollectionDTO = new ActionCollectionDTO();
+        actionCollectionDTO.setName(name);
+        return actionCollectionDTO;
+    }
 }
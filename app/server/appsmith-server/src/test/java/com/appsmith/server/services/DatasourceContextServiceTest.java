@@ -13,6 +13,7 @@ import com.appsmith.external.models.OAuth2;
 import com.appsmith.external.models.UpdatableConnection;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.services.EncryptionService;
+import com.appsmith.server.configurations.DatasourceContextConfig;
 import com.appsmith.server.datasources.base.DatasourceService;
 import com.appsmith.server.datasourcestorages.base.DatasourceStorageService;
 import com.appsmith.server.domains.DatasourceContext;
@@ -42,9 +43,18 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.util.StringUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -54,8 +64,12 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(SpringExtension.class)
 @SpringBootTest
@@ -98,6 +112,9 @@ public class DatasourceContextServiceTest {
     @SpyBean
     DatasourceContextServiceImpl datasourceContextService;
 
+    @SpyBean
+    DatasourceContextConfig datasourceContextConfig;
+
     @Autowired
     EnvironmentPermission environmentPermission;
 
@@ -146,10 +163,9 @@ public class DatasourceContextServiceTest {
         DatasourceContextIdentifier datasourceContextIdentifier =
                 new DatasourceContextIdentifier(datasourceStorage.getDatasourceId(), null);
 
-        Object monitor = new Object();
         // Create one instance of datasource connection
         Mono<DatasourceContext<?>> dsContextMono1 = datasourceContextService.getCachedDatasourceContextMono(
-                datasourceStorage, spyMockPluginExecutor, monitor, datasourceContextIdentifier);
+                datasourceStorage, spyMockPluginExecutor, datasourceContextIdentifier);
 
         Datasource datasource = new Datasource();
         datasource.setId("id1");
@@ -177,7 +193,7 @@ public class DatasourceContextServiceTest {
         Mono<DatasourceContext<?>> dsContextMono2 = datasourceService
                 .archiveById("id1")
                 .flatMap(deleted -> datasourceContextService.getCachedDatasourceContextMono(
-                        datasourceStorage, spyMockPluginExecutor, monitor, datasourceContextIdentifier));
+                        datasourceStorage, spyMockPluginExecutor, datasourceContextIdentifier));
 
         StepVerifier.create(dsContextMono1)
                 .assertNext(dsContext1 -> {
@@ -346,14 +362,11 @@ public class DatasourceContextServiceTest {
         DatasourceContextIdentifier datasourceContextIdentifier =
                 new DatasourceContextIdentifier(datasourceStorage.getDatasourceId(), defaultEnvironmentId);
 
-        Object monitor = new Object();
         DatasourceContext<?> dsContext1 = (DatasourceContext<?>) datasourceContextService
-                .getCachedDatasourceContextMono(
-                        datasourceStorage, spyMockPluginExecutor, monitor, datasourceContextIdentifier)
+                .getCachedDatasourceContextMono(datasourceStorage, spyMockPluginExecutor, datasourceContextIdentifier)
                 .block();
         DatasourceContext<?> dsContext2 = (DatasourceContext<?>) datasourceContextService
-                .getCachedDatasourceContextMono(
-                        datasourceStorage, spyMockPluginExecutor, monitor, datasourceContextIdentifier)
+                .getCachedDatasourceContextMono(datasourceStorage, spyMockPluginExecutor, datasourceContextIdentifier)
                 .block();
 
         /* They can only be equal if the `datasourceCreate` method was called only once */
@@ -361,6 +374,118 @@ public class DatasourceContextServiceTest {
         assertEquals("connection_1", dsContext1.getConnection());
     }
 
+    /**
+     * This test fires thousands of parallel context requests against many datasources and checks that exactly one
+     * connection gets created per datasource, i.e. concurrent callers always share the cached publisher.
+     */
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void testCachedDatasourceCreate_withConcurrentRequestsOnManyDatasources_createsOneConnectionEach() {
+        doReturn(false).when(datasourceContextService).getIsStale(any(), any());
+
+        final int datasourceCount = 100;
+        final int requestsPerDatasource = 50;
+        final Map<String, AtomicInteger> createCountMap = new ConcurrentHashMap<>();
+
+        MockPluginExecutor spyMockPluginExecutor = spy(new MockPluginExecutor());
+        doAnswer(invocation -> Mono.fromCallable(() -> {
+                            DatasourceConfiguration datasourceConfiguration = invocation.getArgument(0);
+                            String url = datasourceConfiguration.getUrl();
+                            createCountMap
+                                    .computeIfAbsent(url, key -> new AtomicInteger())
+                                    .incrementAndGet();
+                            return "connection_" + url;
+                        })
+                        .delayElement(Duration.ofMillis(10)))
+                .when(spyMockPluginExecutor)
+                .datasourceCreate(any());
+
+        List<DatasourceStorage> datasourceStorages = new ArrayList<>();
+        for (int i = 0; i < datasourceCount; i++) {
+            DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+            datasourceConfiguration.setUrl("concurrent_datasource_" + i);
+            DatasourceStorage datasourceStorage = new DatasourceStorage();
+            datasourceStorage.setEnvironmentId(defaultEnvironmentId);
+            datasourceStorage.setDatasourceId("concurrent_datasource_" + i);
+            datasourceStorage.setDatasourceConfiguration(datasourceConfiguration);
+            datasourceStorages.add(datasourceStorage);
+        }
+
+        Mono<List<DatasourceContext<?>>> datasourceContextsMono = Flux.range(0, datasourceCount * requestsPerDatasource)
+                .parallel()
+                .runOn(Schedulers.parallel())
+                .flatMap(i -> {
+                    DatasourceStorage datasourceStorage = datasourceStorages.get(i % datasourceCount);
+                    DatasourceContextIdentifier datasourceContextIdentifier =
+                            new DatasourceContextIdentifier(datasourceStorage.getDatasourceId(), defaultEnvironmentId);
+                    return datasourceContextService.getCachedDatasourceContextMono(
+                            datasourceStorage, spyMockPluginExecutor, datasourceContextIdentifier);
+                })
+                .sequential()
+                .<DatasourceContext<?>>map(datasourceContext -> datasourceContext)
+                .collectList();
+
+        StepVerifier.create(datasourceContextsMono)
+                .assertNext(datasourceContexts -> {
+                    assertEquals(datasourceCount * requestsPerDatasource, datasourceContexts.size());
+                    assertEquals(datasourceCount, createCountMap.size());
+                    createCountMap.forEach((url, createCount) -> assertEquals(1, createCount.get(), url));
+                    datasourceContexts.forEach(
+                            datasourceContext -> assertThat((String) datasourceContext.getConnection())
+                                    .startsWith("connection_concurrent_datasource_"));
+                })
+                .verifyComplete();
+    }
+
+    /**
+     * This test checks that a context left unused past the idle timeout is evicted and its connection destroyed, while
+     * a recently used one stays cached.
+     */
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void testEvictDatasourceContexts_withIdleContext_destroysIdleConnectionOnly() {
+        doReturn(false).when(datasourceContextService).getIsStale(any(), any());
+
+        MockPluginExecutor spyMockPluginExecutor = spy(new MockPluginExecutor());
+        doReturn(Mono.just("idle_connection"))
+                .doReturn(Mono.just("active_connection"))
+                .when(spyMockPluginExecutor)
+                .datasourceCreate(any());
+
+        DatasourceStorage idleDatasourceStorage = new DatasourceStorage();
+        idleDatasourceStorage.setEnvironmentId(defaultEnvironmentId);
+        idleDatasourceStorage.setDatasourceId("idle_datasource");
+        idleDatasourceStorage.setDatasourceConfiguration(new DatasourceConfiguration());
+        DatasourceContextIdentifier idleDatasourceContextIdentifier =
+                new DatasourceContextIdentifier("idle_datasource", defaultEnvironmentId);
+
+        DatasourceStorage activeDatasourceStorage = new DatasourceStorage();
+        activeDatasourceStorage.setEnvironmentId(defaultEnvironmentId);
+        activeDatasourceStorage.setDatasourceId("active_datasource");
+        activeDatasourceStorage.setDatasourceConfiguration(new DatasourceConfiguration());
+        DatasourceContextIdentifier activeDatasourceContextIdentifier =
+                new DatasourceContextIdentifier("active_datasource", defaultEnvironmentId);
+
+        DatasourceContext<?> idleDatasourceContext = (DatasourceContext<?>) datasourceContextService
+                .getCachedDatasourceContextMono(
+                        idleDatasourceStorage, spyMockPluginExecutor, idleDatasourceContextIdentifier)
+                .block();
+        datasourceContextService
+                .getCachedDatasourceContextMono(
+                        activeDatasourceStorage, spyMockPluginExecutor, activeDatasourceContextIdentifier)
+                .block();
+        idleDatasourceContext.setLastAccessedTime(Instant.now().minus(Duration.ofDays(1)));
+
+        datasourceContextService.evictDatasourceContexts();
+
+        assertFalse(datasourceContextService.isValidDatasourceContextAvailable(
+                idleDatasourceStorage, idleDatasourceContextIdentifier));
+        assertTrue(datasourceContextService.isValidDatasourceContextAvailable(
+                activeDatasourceStorage, activeDatasourceContextIdentifier));
+        verify(spyMockPluginExecutor, timeout(5000)).datasourceDestroy("idle_connection");
+        verify(spyMockPluginExecutor, never()).datasourceDestroy("active_connection");
+    }
+
     /**
      * This test checks that if `getCachedDatasourceCreate` method is called two times for the same datasource id, then
      * the datasource creation happens again and again for UpdatableConnection types
@@ -429,10 +554,9 @@ public class DatasourceContextServiceTest {
         DatasourceContextIdentifier datasourceContextIdentifier =
                 new DatasourceContextIdentifier(createdDatasource.getId(), defaultEnvironmentId);
 
-        Object monitor = new Object();
         final DatasourceContext<?> dsc1 = (DatasourceContext) datasourceContextService
                 .getCachedDatasourceContextMono(
-                        createdDatasourceStorage, spyMockPluginExecutor, monitor, datasourceContextIdentifier)
+                        createdDatasourceStorage, spyMockPluginExecutor, datasourceContextIdentifier)
                 .block();
         assertNotNull(dsc1);
         assertTrue(dsc1.getConnection() instanceof UpdatableConnection);
@@ -441,7 +565,7 @@ public class DatasourceContextServiceTest {
 
         final DatasourceContext<?> dsc2 = (DatasourceContext) datasourceContextService
                 .getCachedDatasourceContextMono(
-                        createdDatasourceStorage, spyMockPluginExecutor, monitor, datasourceContextIdentifier)
+                        createdDatasourceStorage, spyMockPluginExecutor, datasourceContextIdentifier)
                 .block();
         assertNotNull(dsc2);
         assertTrue(dsc2.getConnection() instanceof UpdatableConnection);
@@ -475,11 +599,9 @@ public class DatasourceContextServiceTest {
         DatasourceContextIdentifier datasourceContextIdentifier =
                 new DatasourceContextIdentifier(datasourceStorage.getDatasourceId(), defaultEnvironmentId);
 
-        Object monitor = new Object();
-
         Mono<DatasourceContext<?>> failedDatasourceContextMono =
                 datasourceContextService.getCachedDatasourceContextMono(
-                        datasourceStorage, spyMockPluginExecutor, monitor, datasourceContextIdentifier);
+                        datasourceStorage, spyMockPluginExecutor, datasourceContextIdentifier);
 
         StepVerifier.create(failedDatasourceContextMono)
                 .expectError(RuntimeException.class)
@@ -492,7 +614,7 @@ public class DatasourceContextServiceTest {
     /**
      * This test verifies that if a cached datasource context Mono goes to an error state, then that Mono is invalidated
      * and a new datasource context mono is created on calling
-     * {@link com.appsmith.server.services.ce.DatasourceContextServiceCEImpl#getCachedDatasourceContextMono(DatasourceStorage, PluginExecutor, Object, DatasourceContextIdentifier)}
+     * {@link com.appsmith.server.services.ce.DatasourceContextServiceCEImpl#getCachedDatasourceContextMono(DatasourceStorage, PluginExecutor, DatasourceContextIdentifier)}
      * and not fetched from the cache.
      */
     @Test
@@ -517,17 +639,15 @@ public class DatasourceContextServiceTest {
         DatasourceContextIdentifier datasourceContextIdentifier =
                 new DatasourceContextIdentifier(datasourceStorage.getDatasourceId(), defaultEnvironmentId);
 
-        Object monitor = new Object();
-
         Mono<DatasourceContext<?>> failedDatasourceContextMono =
                 datasourceContextService.getCachedDatasourceContextMono(
-                        datasourceStorage, spyMockPluginExecutor, monitor, datasourceContextIdentifier);
+                        datasourceStorage, spyMockPluginExecutor, datasourceContextIdentifier);
         StepVerifier.create(failedDatasourceContextMono)
                 .expectError(RuntimeException.class)
                 .verify();
 
         Mono<DatasourceContext<?>> validDatasourceContextMono = datasourceContextService.getCachedDatasourceContextMono(
-                datasourceStorage, spyMockPluginExecutor, monitor, datasourceContextIdentifier);
+                datasourceStorage, spyMockPluginExecutor, datasourceContextIdentifier);
 
         StepVerifier.create(validDatasourceContextMono)
                 .assertNext(validDatasourceContext ->
@@ -537,6 +657,108 @@ public class DatasourceContextServiceTest {
         assertNotEquals(failedDatasourceContextMono, validDatasourceContextMono);
     }
 
+    /**
+     * This test checks that eviction for capacity leaves a context that was handed out within the grace period alone,
+     * as a query may still be running on it, and evicts it once that period is over.
+     */
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void testEvictDatasourceContexts_overCapacity_keepsRecentlyUsedConnection() {
+        doReturn(false).when(datasourceContextService).getIsStale(any(), any());
+
+        MockPluginExecutor spyMockPluginExecutor = spy(new MockPluginExecutor());
+        doReturn(Mono.just("in_use_connection")).when(spyMockPluginExecutor).datasourceCreate(any());
+
+        DatasourceStorage datasourceStorage = new DatasourceStorage();
+        datasourceStorage.setEnvironmentId(defaultEnvironmentId);
+        datasourceStorage.setDatasourceId("in_use_datasource");
+        datasourceStorage.setDatasourceConfiguration(new DatasourceConfiguration());
+        DatasourceContextIdentifier datasourceContextIdentifier =
+                new DatasourceContextIdentifier("in_use_datasource", defaultEnvironmentId);
+
+        DatasourceContext<?> datasourceContext = (DatasourceContext<?>) datasourceContextService
+                .getCachedDatasourceContextMono(datasourceStorage, spyMockPluginExecutor, datasourceContextIdentifier)
+                .block();
+        doReturn(0).when(datasourceContextConfig).getMaxCount();
+
+        datasourceContextService.evictDatasourceContexts();
+
+        assertTrue(datasourceContextService.isValidDatasourceContextAvailable(
+                datasourceStorage, datasourceContextIdentifier));
+
+        // Past the grace period, but not yet idle
+        datasourceContext.setLastAccessedTime(Instant.now().minus(Duration.ofMinutes(10)));
+        datasourceContextService.evictDatasourceContexts();
+
+        assertFalse(datasourceContextService.isValidDatasourceContextAvailable(
+                datasourceStorage, datasourceContextIdentifier));
+        verify(spyMockPluginExecutor, timeout(5000)).datasourceDestroy("in_use_connection");
+    }
+
+    /**
+     * This test checks that a context evicted while it is still connecting has its connection destroyed once the
+     * connection is created, instead of leaking it.
+     */
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void testEvictDatasourceContexts_whileConnecting_destroysConnectionOnceCreated() {
+        doReturn(false).when(datasourceContextService).getIsStale(any(), any());
+        doReturn(0L).when(datasourceContextConfig).getIdleTimeoutMinutes();
+        doReturn(0L).when(datasourceContextConfig).getEvictionGraceSeconds();
+
+        Sinks.One<Object> connectionSink = Sinks.one();
+        MockPluginExecutor spyMockPluginExecutor = spy(new MockPluginExecutor());
+        doReturn(connectionSink.asMono()).when(spyMockPluginExecutor).datasourceCreate(any());
+
+        DatasourceStorage datasourceStorage = new DatasourceStorage();
+        datasourceStorage.setEnvironmentId(defaultEnvironmentId);
+        datasourceStorage.setDatasourceId("connecting_datasource");
+        datasourceStorage.setDatasourceConfiguration(new DatasourceConfiguration());
+        DatasourceContextIdentifier datasourceContextIdentifier =
+                new DatasourceContextIdentifier("connecting_datasource", defaultEnvironmentId);
+
+        datasourceContextService
+                .getCachedDatasourceContextMono(datasourceStorage, spyMockPluginExecutor, datasourceContextIdentifier)
+                .subscribe();
+        datasourceContextService.evictDatasourceContexts();
+
+        assertFalse(datasourceContextService.isValidDatasourceContextAvailable(
+                datasourceStorage, datasourceContextIdentifier));
+        verify(spyMockPluginExecutor, never()).datasourceDestroy(any());
+
+        connectionSink.tryEmitValue("late_connection");
+
+        verify(spyMockPluginExecutor, timeout(5000)).datasourceDestroy("late_connection");
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void testGetCachedDatasourceContextMono_createsConnectionOnlyWhenSubscribed() {
+        doReturn(false).when(datasourceContextService).getIsStale(any(), any());
+
+        MockPluginExecutor spyMockPluginExecutor = spy(new MockPluginExecutor());
+        doReturn(Mono.just("connection")).when(spyMockPluginExecutor).datasourceCreate(any());
+
+        DatasourceStorage datasourceStorage = new DatasourceStorage();
+        datasourceStorage.setEnvironmentId(defaultEnvironmentId);
+        datasourceStorage.setDatasourceId("deferred_datasource");
+        datasourceStorage.setDatasourceConfiguration(new DatasourceConfiguration());
+
+        DatasourceContextIdentifier datasourceContextIdentifier =
+                new DatasourceContextIdentifier(datasourceStorage.getDatasourceId(), defaultEnvironmentId);
+
+        Mono<DatasourceContext<?>> datasourceContextMono = datasourceContextService.getCachedDatasourceContextMono(
+                datasourceStorage, spyMockPluginExecutor, datasourceContextIdentifier);
+
+        // Plugins that build their clients eagerly must not do so while the cache map is locked
+        verify(spyMockPluginExecutor, never()).datasourceCreate(any());
+
+        StepVerifier.create(datasourceContextMono)
+                .assertNext(datasourceContext -> assertEquals("connection", datasourceContext.getConnection()))
+                .verifyComplete();
+        verify(spyMockPluginExecutor).datasourceCreate(any());
+    }
+
     @Test
     @WithUserDetails(value = "api_user")
     public void verifyInitialiseDatasourceContextReturningRightIdentifier() {
@@ -1,10 +1,94 @@
 package com.appsmith.server.services.ce;
 
+import com.appsmith.external.constants.AnalyticsEvents;
+import com.appsmith.server.configurations.CommonConfig;
+import com.appsmith.server.configurations.ProjectProperties;
+import com.appsmith.server.domains.User;
+import com.appsmith.server.helpers.AnalyticsEventQueue;
+import com.appsmith.server.helpers.UserUtils;
+import com.appsmith.server.repositories.UserDataRepository;
+import com.appsmith.server.services.ConfigService;
+import com.appsmith.server.services.SessionUserService;
+import com.segment.analytics.Analytics;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 public class AnalyticsServiceCEImplTest {
+
+    private final SessionUserService sessionUserService = Mockito.mock(SessionUserService.class);
+
+    private final ConfigService configService = Mockito.mock(ConfigService.class);
+
+    private final AnalyticsEventQueue analyticsEventQueue = Mockito.mock(AnalyticsEventQueue.class);
+
+    private final ProjectProperties projectProperties = Mockito.mock(ProjectProperties.class);
+
+    private final AnalyticsServiceCEImpl analyticsService = new AnalyticsServiceCEImpl(
+            Mockito.mock(Analytics.class),
+            sessionUserService,
+            Mockito.mock(CommonConfig.class),
+            configService,
+            Mockito.mock(UserUtils.class),
+            projectProperties,
+            Mockito.mock(UserDataRepository.class),
+            analyticsEventQueue);
+
+    @BeforeEach
+    void setup() {
+        Mockito.when(projectProperties.getVersion()).thenReturn("version");
+    }
+
+    @Test
+    void sendEvent_whileInstanceIdIsBeingFetched_completesWithoutWaiting() {
+        Sinks.One<String> instanceIdSink = Sinks.one();
+        Mockito.when(configService.getInstanceId()).thenReturn(instanceIdSink.asMono());
+
+        analyticsService
+                .sendEvent("event", "user@example.com", Map.of("key", "value"))
+                .block(Duration.ofSeconds(5));
+        Mockito.verify(analyticsEventQueue, Mockito.never()).enqueue(ArgumentMatchers.any());
+
+        instanceIdSink.tryEmitValue("instanceId");
+        Mockito.verify(analyticsEventQueue, Mockito.times(1)).enqueue(ArgumentMatchers.any());
+    }
+
+    @Test
+    void sendObjectEvent_whileCurrentUserIsBeingFetched_returnsObjectWithoutWaiting() {
+        Sinks.One<User> currentUserSink = Sinks.one();
+        Mockito.when(sessionUserService.getCurrentUser()).thenReturn(currentUserSink.asMono());
+        Mockito.when(configService.getInstanceId()).thenReturn(Mono.just("instanceId"));
+        User user = new User();
+        user.setId("userId");
+        user.setEmail("user@example.com");
+
+        User sentUser =
+                analyticsService.sendObjectEvent(AnalyticsEvents.UPDATE, user).block(Duration.ofSeconds(5));
+        assertSame(user, sentUser);
+        Mockito.verify(analyticsEventQueue, Mockito.never()).enqueue(ArgumentMatchers.any());
+
+        currentUserSink.tryEmitValue(user);
+        Mockito.verify(analyticsEventQueue, Mockito.times(1)).enqueue(ArgumentMatchers.any());
+    }
+
+    @Test
+    void sendEvent_whenInstanceIdLookupFails_completesWithoutError() {
+        Mockito.when(configService.getInstanceId()).thenReturn(Mono.error(new RuntimeException("Database is down")));
+
+        analyticsService.sendEvent("event", "user@example.com", Map.of()).block(Duration.ofSeconds(5));
+
+        Mockito.verify(analyticsEventQueue, Mockito.never()).enqueue(ArgumentMatchers.any());
+    }
+
     @Test
     void shouldHashUserId_anonymousUserIdCE_shouldReturnFalse() {
         Boolean shouldHash =
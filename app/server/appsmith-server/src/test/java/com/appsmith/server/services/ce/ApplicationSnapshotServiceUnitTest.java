@@ -63,9 +63,9 @@ public class ApplicationSnapshotServiceUnitTest {
     public void createApplicationSnapshot_WhenApplicationTooLarge_SnapshotCreatedSuccessfully() {
         String defaultAppId = "default-app-id", branchName = "develop", branchedAppId = "branched-app-id";
 
-        // Create a large ApplicationJson object that exceeds the 15 MB size
+        // Create a large ApplicationJson object that exceeds the 15 MB size, even after compression
         JSONObject jsonObject = new JSONObject();
-        jsonObject.put("key", generateRandomString(16));
+        jsonObject.put("key", generateRandomString(24));
 
         Layout layout = new Layout();
         layout.setDsl(jsonObject);
@@ -206,6 +206,63 @@ public class ApplicationSnapshotServiceUnitTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void restoreSnapshot_WhenSnapshotCreatedByService_RestoredFromCompressedChunks() {
+        String defaultAppId = "default-app-id", branchName = "develop", branchedAppId = "branched-app-id";
+
+        Application application = new Application();
+        application.setName("Snapshot test");
+        application.setWorkspaceId("workspace-id");
+        application.setId(branchedAppId);
+
+        ApplicationJson applicationJson = new ApplicationJson();
+        applicationJson.setExportedApplication(application);
+
+        Mockito.when(applicationService.findBranchedApplicationId(
+                        branchName, defaultAppId, AclPermission.MANAGE_APPLICATIONS))
+                .thenReturn(Mono.just(branchedAppId));
+        Mockito.when(applicationService.findByBranchNameAndDefaultApplicationId(
+                        branchName, defaultAppId, AclPermission.MANAGE_APPLICATIONS))
+                .thenReturn(Mono.just(application));
+        Mockito.when(importExportApplicationService.exportApplicationById(
+                        branchedAppId, SerialiseApplicationObjective.VERSION_CONTROL))
+                .thenReturn(Mono.just(applicationJson));
+        Mockito.when(applicationSnapshotRepository.deleteAllByApplicationId(branchedAppId))
+                .thenReturn(Mono.empty());
+
+        // keep the chunks that get saved, so that they can be returned when the snapshot is restored
+        List<ApplicationSnapshot> savedSnapshots = new ArrayList<>();
+        Mockito.when(applicationSnapshotRepository.saveAll(any(Iterable.class))).thenAnswer(invocation -> {
+            Iterable<ApplicationSnapshot> snapshots = invocation.getArgument(0);
+            snapshots.forEach(savedSnapshots::add);
+            return Flux.fromIterable(snapshots);
+        });
+        Mockito.when(applicationSnapshotRepository.findByApplicationId(branchedAppId))
+                .thenAnswer(invocation -> Flux.fromIterable(savedSnapshots));
+
+        ArgumentMatcher<ApplicationJson> matchApplicationJson = applicationJson1 ->
+                applicationJson1.getExportedApplication().getName().equals(application.getName());
+        Mockito.when(importExportApplicationService.restoreSnapshot(
+                        eq(application.getWorkspaceId()),
+                        argThat(matchApplicationJson),
+                        eq(branchedAppId),
+                        eq(branchName)))
+                .thenReturn(Mono.just(application));
+
+        Mono<Application> restoredApplicationMono = applicationSnapshotService
+                .createApplicationSnapshot(defaultAppId, branchName)
+                .then(applicationSnapshotService.restoreSnapshot(defaultAppId, branchName));
+
+        StepVerifier.create(restoredApplicationMono)
+                .assertNext(application1 -> {
+                    assertThat(application1.getName()).isEqualTo(application.getName());
+                    assertThat(savedSnapshots).hasSize(1);
+                    assertThat(new String(savedSnapshots.get(0).getData(), StandardCharsets.UTF_8))
+                            .doesNotContain("Snapshot test");
+                })
+                .verifyComplete();
+    }
+
     private ApplicationSnapshot createSnapshot(String applicationId, byte[] data, int chunkOrder) {
         ApplicationSnapshot applicationSnapshot = new ApplicationSnapshot();
         applicationSnapshot.setApplicationId(applicationId);
@@ -0,0 +1,175 @@
+package com.appsmith.server.services.ce;
+
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.ApplicationMode;
+import com.appsmith.server.domains.Theme;
+import com.appsmith.server.domains.UserData;
+import com.appsmith.server.dtos.ActionViewDTO;
+import com.appsmith.server.dtos.ApplicationPagesDTO;
+import com.appsmith.server.dtos.ApplicationViewDTO;
+import com.appsmith.server.newactions.base.NewActionService;
+import com.appsmith.server.services.ActionCollectionService;
+import com.appsmith.server.services.ApplicationService;
+import com.appsmith.server.services.CustomJSLibService;
+import com.appsmith.server.services.NewPageService;
+import com.appsmith.server.services.PermissionGroupService;
+import com.appsmith.server.services.ThemeService;
+import com.appsmith.server.services.UserDataService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ApplicationViewServiceCEImplTest {
+
+    private final ApplicationService applicationService = Mockito.mock(ApplicationService.class);
+
+    private final NewPageService newPageService = Mockito.mock(NewPageService.class);
+
+    private final NewActionService newActionService = Mockito.mock(NewActionService.class);
+
+    private final ActionCollectionService actionCollectionService = Mockito.mock(ActionCollectionService.class);
+
+    private final CustomJSLibService customJSLibService = Mockito.mock(CustomJSLibService.class);
+
+    private final ThemeService themeService = Mockito.mock(ThemeService.class);
+
+    private final PermissionGroupService permissionGroupService = Mockito.mock(PermissionGroupService.class);
+
+    private final UserDataService userDataService = Mockito.mock(UserDataService.class);
+
+    private final ApplicationViewServiceCEImpl applicationViewService = new ApplicationViewServiceCEImpl(
+            applicationService,
+            newPageService,
+            newActionService,
+            actionCollectionService,
+            customJSLibService,
+            themeService,
+            permissionGroupService,
+            userDataService);
+
+    private final ApplicationPagesDTO applicationPages = new ApplicationPagesDTO();
+
+    private final ActionViewDTO action = new ActionViewDTO();
+
+    private final Theme theme = new Theme();
+
+    private final Application application = new Application();
+
+    // Users whose recently used applications were updated, as read from the context of their request
+    private final List<String> usersWithLastUsedAppUpdated = new ArrayList<>();
+
+    @BeforeEach
+    public void setup() {
+        application.setId("applicationId");
+        application.setLastDeployedAt(Instant.parse("2023-06-01T10:00:00Z"));
+        application.setUpdatedAt(Instant.parse("2023-06-01T10:00:00Z"));
+
+        Mockito.when(applicationService.getApplicationInViewMode("applicationId", null))
+                .thenReturn(Mono.just(application));
+        Mockito.when(permissionGroupService.getSessionUserPermissionGroupIds())
+                .thenReturn(Mono.just(Set.of("permissionGroup1")));
+        Mockito.when(newPageService.findApplicationPagesByApplicationIdViewModeAndBranch(
+                        "applicationId", null, true, false))
+                .thenReturn(Mono.just(applicationPages));
+        Mockito.when(newActionService.getActionsForViewMode("applicationId", null))
+                .thenReturn(Flux.just(action));
+        Mockito.when(actionCollectionService.getActionCollectionsForViewMode("applicationId", null))
+                .thenReturn(Flux.empty());
+        Mockito.when(customJSLibService.getAllJSLibsInApplication("applicationId", null, true))
+                .thenReturn(Mono.just(List.of()));
+        Mockito.when(themeService.getApplicationTheme("applicationId", ApplicationMode.PUBLISHED, null))
+                .thenReturn(Mono.just(theme));
+        Mockito.when(userDataService.updateLastUsedAppAndWorkspaceList(application))
+                .thenReturn(Mono.deferContextual(contextView -> {
+                    usersWithLastUsedAppUpdated.add(contextView.getOrDefault("user", "anonymousUser"));
+                    return Mono.just(new UserData());
+                }));
+    }
+
+    @Test
+    public void getApplicationView_whenRequestedAgain_servesAssembledView() {
+        ApplicationViewDTO firstView =
+                applicationViewService.getApplicationView("applicationId", null).block();
+        ApplicationViewDTO secondView =
+                applicationViewService.getApplicationView("applicationId", null).block();
+
+        assertThat(firstView.getApplication().getId()).isEqualTo("applicationId");
+        assertThat(firstView.getPages()).isSameAs(applicationPages);
+        assertThat(firstView.getActions()).containsExactly(action);
+        assertThat(firstView.getActionCollections()).isEmpty();
+        assertThat(firstView.getCustomJSLibs()).isEmpty();
+        assertThat(firstView.getTheme()).isSameAs(theme);
+        assertThat(firstView.getETag()).isNotBlank();
+
+        assertThat(secondView).isSameAs(firstView);
+        // The application is fetched on every request, so that the read permission is always checked
+        Mockito.verify(applicationService, Mockito.times(2)).getApplicationInViewMode("applicationId", null);
+        Mockito.verify(newPageService, Mockito.times(1))
+                .findApplicationPagesByApplicationIdViewModeAndBranch("applicationId", null, true, false);
+    }
+
+    @Test
+    public void getApplicationView_whenServedFromMemory_updatesLastUsedAppOfEveryUser() {
+        ApplicationViewDTO firstView = applicationViewService
+                .getApplicationView("applicationId", null)
+                .contextWrite(context -> context.put("user", "user1"))
+                .block();
+        ApplicationViewDTO secondView = applicationViewService
+                .getApplicationView("applicationId", null)
+                .contextWrite(context -> context.put("user", "user2"))
+                .block();
+
+        assertThat(secondView).isSameAs(firstView);
+        assertThat(usersWithLastUsedAppUpdated).containsExactly("user1", "user2");
+        Mockito.verify(newPageService, Mockito.times(1))
+                .findApplicationPagesByApplicationIdViewModeAndBranch("applicationId", null, true, false);
+    }
+
+    @Test
+    public void getApplicationView_withOtherPermissionGroups_assemblesSeparateView() {
+        ApplicationViewDTO firstView =
+                applicationViewService.getApplicationView("applicationId", null).block();
+
+        Mockito.when(permissionGroupService.getSessionUserPermissionGroupIds())
+                .thenReturn(Mono.just(Set.of("permissionGroup2")));
+        ApplicationViewDTO secondView =
+                applicationViewService.getApplicationView("applicationId", null).block();
+
+        assertThat(secondView).isNotSameAs(firstView);
+        assertThat(secondView.getETag()).isNotEqualTo(firstView.getETag());
+        Mockito.verify(newPageService, Mockito.times(2))
+                .findApplicationPagesByApplicationIdViewModeAndBranch("applicationId", null, true, false);
+    }
+
+    @Test
+    public void getApplicationView_whenOneViewerCancels_stillServesOtherViewers() {
+        Sinks.One<ApplicationPagesDTO> pagesSink = Sinks.one();
+        Mockito.when(newPageService.findApplicationPagesByApplicationIdViewModeAndBranch(
+                        "applicationId", null, true, false))
+                .thenReturn(pagesSink.asMono());
+
+        Disposable cancelledViewer =
+                applicationViewService.getApplicationView("applicationId", null).subscribe();
+        Mono<ApplicationViewDTO> waitingViewer =
+                applicationViewService.getApplicationView("applicationId", null).cache();
+        waitingViewer.subscribe();
+
+        cancelledViewer.dispose();
+        pagesSink.tryEmitValue(applicationPages);
+
+        assertThat(waitingViewer.block().getPages()).isSameAs(applicationPages);
+        Mockito.verify(newPageService, Mockito.times(1))
+                .findApplicationPagesByApplicationIdViewModeAndBranch("applicationId", null, true, false);
+    }
+}
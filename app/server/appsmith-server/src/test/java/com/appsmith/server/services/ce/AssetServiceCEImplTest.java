@@ -0,0 +1,63 @@
+package com.appsmith.server.services.ce;
+
+import com.appsmith.server.domains.Asset;
+import com.appsmith.server.repositories.AssetRepository;
+import com.appsmith.server.services.AnalyticsService;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AssetServiceCEImplTest {
+
+    private final AssetRepository assetRepository = Mockito.mock(AssetRepository.class);
+
+    private final AnalyticsService analyticsService = Mockito.mock(AnalyticsService.class);
+
+    private final AssetServiceCEImpl assetService = new AssetServiceCEImpl(assetRepository, analyticsService);
+
+    @Test
+    public void makeImageResponse_whenRequestedAgain_servesFromMemoryWithNotModified() {
+        Mockito.when(assetRepository.findById("assetId"))
+                .thenReturn(Mono.just(new Asset(MediaType.IMAGE_PNG, new byte[] {1, 2, 3})));
+
+        MockServerWebExchange firstExchange = MockServerWebExchange.from(MockServerHttpRequest.get("/assets/assetId"));
+        assetService.makeImageResponse(firstExchange, "assetId").block();
+
+        String eTag = firstExchange.getResponse().getHeaders().getETag();
+        assertThat(firstExchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(eTag).isNotBlank();
+        assertThat(firstExchange.getResponse().getBodyAsString().block()).hasSize(3);
+
+        MockServerWebExchange secondExchange = MockServerWebExchange.from(
+                MockServerHttpRequest.get("/assets/assetId").header(HttpHeaders.IF_NONE_MATCH, eTag));
+        assetService.makeImageResponse(secondExchange, "assetId").block();
+
+        assertThat(secondExchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        Mockito.verify(assetRepository, Mockito.times(1)).findById("assetId");
+    }
+
+    @Test
+    public void remove_whenAssetIsCached_loadsItAgainFromDatabase() {
+        Mockito.when(assetRepository.findById("assetId"))
+                .thenReturn(Mono.just(new Asset(MediaType.IMAGE_PNG, new byte[] {1, 2, 3})));
+        Mockito.when(assetRepository.deleteById("assetId")).thenReturn(Mono.empty());
+        Mockito.when(analyticsService.sendDeleteEvent(Mockito.any(Asset.class))).thenReturn(Mono.just(new Asset()));
+
+        assetService
+                .makeImageResponse(MockServerWebExchange.from(MockServerHttpRequest.get("/assets/assetId")), "assetId")
+                .block();
+        assetService.remove("assetId").block();
+        assetService
+                .makeImageResponse(MockServerWebExchange.from(MockServerHttpRequest.get("/assets/assetId")), "assetId")
+                .block();
+
+        Mockito.verify(assetRepository, Mockito.times(2)).findById("assetId");
+    }
+}
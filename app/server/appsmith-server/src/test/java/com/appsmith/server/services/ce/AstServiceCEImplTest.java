@@ -0,0 +1,121 @@
+package com.appsmith.server.services.ce;
+
+import com.appsmith.server.configurations.CommonConfig;
+import com.appsmith.server.configurations.InstanceConfig;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import mockwebserver3.MockResponse;
+import mockwebserver3.MockWebServer;
+import mockwebserver3.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.util.function.Tuple2;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AstServiceCEImplTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private MockWebServer mockRts;
+
+    private AstServiceCEImpl astService;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        mockRts = new MockWebServer();
+        mockRts.start();
+
+        CommonConfig commonConfig = Mockito.mock(CommonConfig.class);
+        Mockito.when(commonConfig.getRtsBaseUrl()).thenReturn("http://localhost:" + mockRts.getPort());
+        InstanceConfig instanceConfig = Mockito.mock(InstanceConfig.class);
+        Mockito.when(instanceConfig.getIsRtsAccessible()).thenReturn(true);
+
+        astService = new AstServiceCEImpl(commonConfig, instanceConfig, meterRegistry);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        mockRts.shutdown();
+    }
+
+    @Test
+    public void getPossibleReferencesFromDynamicBinding_whenBindingsParsedBefore_onlySendsNewBindingsToRts()
+            throws Exception {
+        enqueueReferences(Set.of("Api1.data"), Set.of("Input1.text"));
+        Map<String, Set<String>> firstReferences = getReferences(List.of("Api1.data", "Input1.text"), 2);
+
+        assertThat(firstReferences)
+                .containsEntry("Api1.data", Set.of("Api1.data"))
+                .containsEntry("Input1.text", Set.of("Input1.text"));
+        assertThat(getRequestedScripts(mockRts.takeRequest())).containsExactly("Api1.data", "Input1.text");
+
+        enqueueReferences(Set.of("Table1.selectedRow"));
+        Map<String, Set<String>> secondReferences =
+                getReferences(List.of("Api1.data", "Table1.selectedRow", "Input1.text"), 2);
+
+        assertThat(secondReferences)
+                .containsEntry("Api1.data", Set.of("Api1.data"))
+                .containsEntry("Table1.selectedRow", Set.of("Table1.selectedRow"))
+                .containsEntry("Input1.text", Set.of("Input1.text"));
+        assertThat(getRequestedScripts(mockRts.takeRequest())).containsExactly("Table1.selectedRow");
+
+        // Nothing new to parse, so RTS is not called at all
+        assertThat(getReferences(List.of("Input1.text"), 2)).containsEntry("Input1.text", Set.of("Input1.text"));
+        assertThat(mockRts.getRequestCount()).isEqualTo(2);
+        assertThat(meterRegistry
+                        .get("cache.gets")
+                        .tag("cache", "appsmith.ast.references")
+                        .tag("result", "hit")
+                        .functionCounter()
+                        .count())
+                .isEqualTo(3);
+    }
+
+    @Test
+    public void getPossibleReferencesFromDynamicBinding_withDifferentEvalVersion_parsesBindingAgain() throws Exception {
+        enqueueReferences(Set.of("Api1.data"));
+        getReferences(List.of("Api1.data"), 1);
+        enqueueReferences(Set.of("Api1.data"));
+        getReferences(List.of("Api1.data"), 2);
+
+        assertThat(getRequestedScripts(mockRts.takeRequest())).containsExactly("Api1.data");
+        assertThat(getRequestedScripts(mockRts.takeRequest())).containsExactly("Api1.data");
+    }
+
+    @SafeVarargs
+    private void enqueueReferences(Set<String>... referencesPerScript) throws IOException {
+        List<Map<String, Object>> data = Arrays.stream(referencesPerScript)
+                .map(references -> Map.<String, Object>of(
+                        "references", references, "functionalParams", Set.of(), "variables", Set.of()))
+                .toList();
+        mockRts.enqueue(new MockResponse()
+                .setBody(objectMapper.writeValueAsString(Map.of("data", data)))
+                .addHeader("Content-Type", "application/json"));
+    }
+
+    private Map<String, Set<String>> getReferences(List<String> bindingValues, int evalVersion) {
+        return astService
+                .getPossibleReferencesFromDynamicBinding(bindingValues, evalVersion)
+                .collect(Collectors.toMap(Tuple2::getT1, Tuple2::getT2))
+                .block();
+    }
+
+    private List<String> getRequestedScripts(RecordedRequest request) throws IOException {
+        JsonNode body = objectMapper.readTree(request.getBody().readUtf8());
+        return objectMapper.convertValue(
+                body.get("scripts"), objectMapper.getTypeFactory().constructCollectionType(List.class, String.class));
+    }
+}
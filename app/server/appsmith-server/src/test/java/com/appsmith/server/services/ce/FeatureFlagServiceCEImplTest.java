@@ -0,0 +1,125 @@
+package com.appsmith.server.services.ce;
+
+import com.appsmith.server.domains.User;
+import com.appsmith.server.featureflags.CachedFeatures;
+import com.appsmith.server.featureflags.CachedFlags;
+import com.appsmith.server.helpers.FeatureFlagMigrationHelper;
+import com.appsmith.server.services.CacheableFeatureFlagHelper;
+import com.appsmith.server.services.SessionUserService;
+import com.appsmith.server.services.TenantService;
+import com.appsmith.server.services.UserIdentifierService;
+import org.ff4j.FF4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FeatureFlagServiceCEImplTest {
+
+    private static final String USER_IDENTIFIER = "userIdentifier";
+
+    private final SessionUserService sessionUserService = Mockito.mock(SessionUserService.class);
+
+    private final FF4j ff4j = Mockito.mock(FF4j.class);
+
+    private final TenantService tenantService = Mockito.mock(TenantService.class);
+
+    private final UserIdentifierService userIdentifierService = Mockito.mock(UserIdentifierService.class);
+
+    private final CacheableFeatureFlagHelper cacheableFeatureFlagHelper =
+            Mockito.mock(CacheableFeatureFlagHelper.class);
+
+    private final FeatureFlagServiceCEImpl featureFlagService = new FeatureFlagServiceCEImpl(
+            sessionUserService,
+            ff4j,
+            tenantService,
+            userIdentifierService,
+            cacheableFeatureFlagHelper,
+            Mockito.mock(FeatureFlagMigrationHelper.class));
+
+    private final User user = new User();
+
+    private final CachedFlags expiredFlags =
+            new CachedFlags(Map.of("remoteFeature", true), Instant.now().minus(3, ChronoUnit.HOURS));
+
+    @BeforeEach
+    public void setup() {
+        user.setEmail("user@example.com");
+        Mockito.when(sessionUserService.getCurrentUser()).thenReturn(Mono.just(user));
+        Mockito.when(ff4j.getFeatures()).thenReturn(Map.of());
+        Mockito.when(userIdentifierService.getUserIdentifier(user)).thenReturn(USER_IDENTIFIER);
+        Mockito.when(tenantService.getDefaultTenantId()).thenReturn(Mono.just("tenantId"));
+        Mockito.when(cacheableFeatureFlagHelper.fetchCachedTenantFeatures("tenantId"))
+                .thenReturn(Mono.just(new CachedFeatures(Map.of(), Instant.now())));
+        Mockito.when(cacheableFeatureFlagHelper.evictUserCachedFlags(USER_IDENTIFIER))
+                .thenReturn(Mono.empty());
+    }
+
+    @Test
+    public void getAllFeatureFlagsForUser_withExpiredFlags_servesThemWhileRefreshingOnce() {
+        Sinks.One<CachedFlags> refreshedFlagsSink = Sinks.one();
+        Mockito.when(cacheableFeatureFlagHelper.fetchUserCachedFlags(USER_IDENTIFIER, user))
+                .thenReturn(Mono.just(expiredFlags), refreshedFlagsSink.asMono());
+
+        assertThat(featureFlagService.getAllFeatureFlagsForUser().block()).containsEntry("remoteFeature", true);
+        assertThat(featureFlagService.getAllFeatureFlagsForUser().block()).containsEntry("remoteFeature", true);
+
+        // The second request finds the refresh of the first one still running, and doesn't start another one
+        Mockito.verify(cacheableFeatureFlagHelper, Mockito.times(1)).evictUserCachedFlags(USER_IDENTIFIER);
+        Mockito.verify(cacheableFeatureFlagHelper, Mockito.times(2)).fetchUserCachedFlags(USER_IDENTIFIER, user);
+
+        refreshedFlagsSink.tryEmitValue(new CachedFlags(Map.of("remoteFeature", false), Instant.now()));
+
+        assertThat(featureFlagService.getAllFeatureFlagsForUser().block()).containsEntry("remoteFeature", false);
+        Mockito.verify(cacheableFeatureFlagHelper, Mockito.times(2)).fetchUserCachedFlags(USER_IDENTIFIER, user);
+    }
+
+    @Test
+    public void getAllFeatureFlagsForUser_whenCloudServicesReturnNoFlags_keepsPreviousFlags() {
+        Mockito.when(cacheableFeatureFlagHelper.fetchUserCachedFlags(USER_IDENTIFIER, user))
+                .thenReturn(Mono.just(expiredFlags), Mono.just(new CachedFlags(Map.of(), Instant.now())));
+        Mockito.when(cacheableFeatureFlagHelper.updateUserCachedFlags(USER_IDENTIFIER, expiredFlags))
+                .thenReturn(Mono.just(expiredFlags));
+
+        featureFlagService.getAllFeatureFlagsForUser().block();
+
+        // The previous flags are still expired, so each request tries to refresh them again
+        assertThat(featureFlagService.getAllFeatureFlagsForUser().block()).containsEntry("remoteFeature", true);
+        Mockito.verify(cacheableFeatureFlagHelper, Mockito.atLeastOnce())
+                .updateUserCachedFlags(USER_IDENTIFIER, expiredFlags);
+    }
+
+    @Test
+    public void getAllFeatureFlagsForUser_whenRefreshFails_keepsPreviousFlags() {
+        Mockito.when(cacheableFeatureFlagHelper.fetchUserCachedFlags(USER_IDENTIFIER, user))
+                .thenReturn(Mono.just(expiredFlags), Mono.error(new RuntimeException("Cloud services are down")));
+
+        featureFlagService.getAllFeatureFlagsForUser().block();
+
+        assertThat(featureFlagService.getAllFeatureFlagsForUser().block()).containsEntry("remoteFeature", true);
+        Mockito.verify(cacheableFeatureFlagHelper, Mockito.atLeast(2)).fetchUserCachedFlags(USER_IDENTIFIER, user);
+    }
+
+    @Test
+    public void refreshLocalUserFlags_withFlagsAboutToExpire_refreshesThem() {
+        CachedFlags flagsAboutToExpire =
+                new CachedFlags(Map.of("remoteFeature", true), Instant.now().minus(115, ChronoUnit.MINUTES));
+        Mockito.when(cacheableFeatureFlagHelper.fetchUserCachedFlags(USER_IDENTIFIER, user))
+                .thenReturn(
+                        Mono.just(flagsAboutToExpire),
+                        Mono.just(new CachedFlags(Map.of("remoteFeature", false), Instant.now())));
+
+        featureFlagService.getAllFeatureFlagsForUser().block();
+        featureFlagService.refreshLocalUserFlags();
+
+        assertThat(featureFlagService.getAllFeatureFlagsForUser().block()).containsEntry("remoteFeature", false);
+        Mockito.verify(cacheableFeatureFlagHelper, Mockito.times(1)).evictUserCachedFlags(USER_IDENTIFIER);
+    }
+}
@@ -1,5 +1,8 @@
 package com.appsmith.caching.annotations;
 
+import com.appsmith.caching.serializers.CacheSerializer;
+import com.appsmith.caching.serializers.RedisTemplateCacheSerializer;
+
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
@@ -22,4 +25,29 @@ public @interface Cache {
      * All method arguments can be used in the expression
      */
     String key() default "";
+
+    /**
+     * Time to live, in seconds, of entries in the in-process (L1) tier that sits in front of Redis.
+     * A value of 0 disables the local tier for this cache and every lookup goes to Redis.
+     * Local entries are invalidated on every node when the cache is evicted with CacheEvict.
+     */
+    long localTtlSeconds() default 0;
+
+    /**
+     * Maximum number of entries held in the in-process (L1) tier of this cache.
+     * Only used when localTtlSeconds is greater than 0.
+     */
+    long localMaxSize() default 1000;
+
+    /**
+     * Serializer used to store the values of this cache in Redis. Must be available as a bean.
+     * Entries written with a different serializer are treated as cache misses.
+     */
+    Class<? extends CacheSerializer> serializer() default RedisTemplateCacheSerializer.class;
+
+    /**
+     * Serialized values of at least this many bytes are compressed before being stored. A value of 0 disables
+     * compression, which keeps the stored format unchanged.
+     */
+    int compressionThreshold() default 0;
 }
@@ -19,7 +19,12 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 /**
  * CacheAspect is an aspect that is used to cache the results of a method call annotated with Cache.
@@ -34,6 +39,11 @@ public class CacheAspect {
 
     public static final ExpressionParser EXPRESSION_PARSER = new SpelExpressionParser();
 
+    /**
+     * Loads that are currently running for a cache miss, keyed by cacheName:key.
+     */
+    private final Map<String, Mono<Object>> inFlightMap = new ConcurrentHashMap<>();
+
     @Autowired
     public CacheAspect(CacheManager cacheManager) {
         this.cacheManager = cacheManager;
@@ -62,6 +72,29 @@ public class CacheAspect {
         }
     }
 
+    /**
+     * This method makes sure that concurrent cache misses for the same cacheName and key share a single call to the
+     * original method, instead of each of them hitting the underlying data source and writing to the cache.
+     * The shared Mono is forgotten as soon as it terminates, so errors are not cached.
+     *
+     * @param cacheName The name of the cache
+     * @param key       The key to be used for caching
+     * @param loader    Supplier of the Mono that calls the original method and caches the result
+     * @return The result of the shared call to the original method
+     */
+    private Mono<Object> singleFlight(String cacheName, String key, Supplier<Mono<?>> loader) {
+        String path = cacheName + ":" + key;
+        return Mono.defer(() -> inFlightMap.computeIfAbsent(path, ignored -> {
+            // Only this load may forget itself, a newer one may already be registered for the same path by then
+            AtomicReference<Mono<Object>> sharedLoad = new AtomicReference<>();
+            sharedLoad.set(loader.get()
+                    .map(value -> (Object) value)
+                    .doFinally(signalType -> inFlightMap.remove(path, sharedLoad.get()))
+                    .cache());
+            return sharedLoad.get();
+        }));
+    }
+
     /**
      * This method is used to call original Flux<T> returning method and return the the result after caching it with CacheManager
      *
@@ -157,6 +190,13 @@ public class CacheAspect {
         Cache annotation = method.getAnnotation(Cache.class);
         String cacheName = annotation.cacheName();
 
+        if (annotation.localTtlSeconds() > 0) { // Enable the in-process tier for this cache, if asked for
+            cacheManager.configureLocalCache(
+                    cacheName, Duration.ofSeconds(annotation.localTtlSeconds()), annotation.localMaxSize());
+        }
+
+        cacheManager.configureSerializer(cacheName, annotation.serializer(), annotation.compressionThreshold());
+
         // derive key
         String[] parameterNames = signature.getParameterNames();
         Object[] args = joinPoint.getArgs();
@@ -164,17 +204,17 @@ public class CacheAspect {
 
         Class<?> returnType = method.getReturnType();
         if (returnType.isAssignableFrom(Mono.class)) { // If method returns Mono<T>
+            // defer the creation of Mono until subscription as it will call original function
             return cacheManager
                     .get(cacheName, key)
-                    .switchIfEmpty(Mono.defer(() -> callMonoMethodAndCache(
-                            joinPoint, cacheName,
-                            key))); // defer the creation of Mono until subscription as it will call original function
+                    .switchIfEmpty(
+                            singleFlight(cacheName, key, () -> callMonoMethodAndCache(joinPoint, cacheName, key)));
         }
 
         if (returnType.isAssignableFrom(Flux.class)) { // If method returns Flux<T>
             return cacheManager
                     .get(cacheName, key)
-                    .switchIfEmpty(Mono.defer(() -> callFluxMethodAndCache(joinPoint, cacheName, key)
+                    .switchIfEmpty(singleFlight(cacheName, key, () -> callFluxMethodAndCache(joinPoint, cacheName, key)
                             .collectList())) // defer the creation of Flux until subscription as it will call original
                     // function
                     .map(value -> (List<?>) value)
@@ -1,13 +1,35 @@
 package com.appsmith.caching.components;
 
+import com.appsmith.caching.serializers.CacheSerializer;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+
 public interface CacheManager {
     /**
      * This will log the cache stats with INFO severity.
      */
     void logStats();
 
+    /**
+     * This will enable an in-process tier in front of the shared cache for the given cache name.
+     * Calling it again for a cache name that is already configured is a no-op.
+     * @param cacheName The name of the cache.
+     * @param ttl Time to live of the local entries.
+     * @param maximumSize Maximum number of local entries.
+     */
+    void configureLocalCache(String cacheName, Duration ttl, long maximumSize);
+
+    /**
+     * This will set how the values of the given cache name are serialized in the shared cache.
+     * Calling it again for a cache name that is already configured is a no-op.
+     * @param cacheName The name of the cache.
+     * @param serializerClass Class of the serializer bean to be used.
+     * @param compressionThreshold Minimum size in bytes of compressed values, 0 to disable compression.
+     */
+    void configureSerializer(
+            String cacheName, Class<? extends CacheSerializer> serializerClass, int compressionThreshold);
+
     /**
      * This will get item from the cache, Mono.empty() if not found.
      * @param cacheName The name of the cache.
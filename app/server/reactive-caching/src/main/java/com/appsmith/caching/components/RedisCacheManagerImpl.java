@@ -1,21 +1,42 @@
 package com.appsmith.caching.components;
 
 import com.appsmith.caching.model.CacheStats;
+import com.appsmith.caching.serializers.CacheSerializer;
+import com.appsmith.caching.serializers.CompressingCacheSerializer;
+import com.appsmith.caching.serializers.RedisTemplateCacheSerializer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.data.redis.core.ReactiveRedisOperations;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
-import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 /**
  * RedisCacheManagerImpl is a class that implements the CacheManager interface.
- * Used Redis as the cache backend.
+ * Used Redis as the cache backend, with an optional in-process tier per cache name in front of it.
+ * Evictions are broadcast over a Redis channel so that every node drops its local copy.
  */
 @Component
 @ConditionalOnClass({ReactiveRedisTemplate.class})
@@ -24,17 +45,109 @@ public class RedisCacheManagerImpl implements CacheManager {
 
     private final ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
     private final ReactiveRedisOperations<String, String> reactiveRedisOperations;
+    private final ReactiveRedisTemplate<String, byte[]> byteArrayRedisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Map<Class<?>, CacheSerializer> serializersByClass = new ConcurrentHashMap<>();
+    private final CacheSerializer defaultSerializer;
+
+    /**
+     * Channel on which evictions are published, so that all nodes can invalidate their local tier.
+     * Messages are either "cacheName:key" for a single key or "cacheName" for the complete cache.
+     */
+    static final String INVALIDATION_CHANNEL = "appsmith:cache:invalidation";
+
+    /**
+     * Number of keys requested per SCAN call and removed per UNLINK call when evicting a complete cache.
+     */
+    static final int EVICT_BATCH_SIZE = 1000;
 
     Map<String, CacheStats> statsMap = new ConcurrentHashMap<>();
 
+    Map<String, CacheCounters> countersMap = new ConcurrentHashMap<>();
+
+    private record CacheCounters(Counter hits, Counter misses, Counter singleEvictions, Counter completeEvictions) {}
+
+    Map<String, Cache<String, byte[]>> localCacheMap = new ConcurrentHashMap<>();
+
+    Map<String, Timer> getTimerMap = new ConcurrentHashMap<>();
+
+    Map<String, Timer> putTimerMap = new ConcurrentHashMap<>();
+
+    Map<String, DistributionSummary> payloadSizeMap = new ConcurrentHashMap<>();
+
+    Map<String, CacheSerializer> serializerMap = new ConcurrentHashMap<>();
+
+    private Disposable invalidationSubscription;
+
     /**
-     * Ensures that the key for cacheName is present in statsMap.
+     * Ensures that the key for cacheName is present in statsMap, and that its meters are registered.
      * @param cacheName The name of the cache.
      */
     private void ensureStats(String cacheName) {
-        if (!statsMap.containsKey(cacheName)) {
-            statsMap.put(cacheName, CacheStats.newInstance());
-        }
+        statsMap.computeIfAbsent(cacheName, name -> CacheStats.newInstance());
+        countersMap.computeIfAbsent(cacheName, this::registerMeters);
+    }
+
+    /**
+     * Publishes the stats of a cache as Micrometer counters, along with get and put latency timers.
+     * The counters are kept apart from statsMap, so that resetStats doesn't make them go down.
+     * @param cacheName The name of the cache.
+     * @return The counters of the cache.
+     */
+    private CacheCounters registerMeters(String cacheName) {
+        getTimerMap.computeIfAbsent(cacheName, name -> buildTimer(name, "appsmith.cache.get.latency"));
+        putTimerMap.computeIfAbsent(cacheName, name -> buildTimer(name, "appsmith.cache.put.latency"));
+        payloadSizeMap.computeIfAbsent(cacheName, name -> DistributionSummary.builder("appsmith.cache.payload.size")
+                .tag("cache", name)
+                .baseUnit("bytes")
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+        return new CacheCounters(
+                buildCounter(cacheName, "appsmith.cache.gets", "result", "hit"),
+                buildCounter(cacheName, "appsmith.cache.gets", "result", "miss"),
+                buildCounter(cacheName, "appsmith.cache.evictions", "scope", "single"),
+                buildCounter(cacheName, "appsmith.cache.evictions", "scope", "all"));
+    }
+
+    private Counter buildCounter(String cacheName, String meterName, String tagKey, String tagValue) {
+        return Counter.builder(meterName)
+                .tag("cache", cacheName)
+                .tag(tagKey, tagValue)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Counts an event of a cache, both in its stats and in its published counter.
+     * @param cacheName The name of the cache.
+     * @param stat The stat to increment.
+     * @param counter The counter to increment.
+     */
+    private void recordStat(
+            String cacheName, Function<CacheStats, AtomicInteger> stat, Function<CacheCounters, Counter> counter) {
+        // Stats may have been reset since ensureStats, counters never are
+        stat.apply(statsMap.computeIfAbsent(cacheName, name -> CacheStats.newInstance()))
+                .incrementAndGet();
+        counter.apply(countersMap.get(cacheName)).increment();
+    }
+
+    private Timer buildTimer(String cacheName, String meterName) {
+        return Timer.builder(meterName)
+                .tag("cache", cacheName)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * Records the time from subscription until termination of the given Mono.
+     * @param mono The Mono to be timed.
+     * @param timer The timer to record into.
+     * @return The timed Mono.
+     */
+    private static <T> Mono<T> timed(Mono<T> mono, Timer timer) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start();
+            return mono.doFinally(signalType -> sample.stop(timer));
+        });
     }
 
     @Override
@@ -52,38 +165,174 @@ public class RedisCacheManagerImpl implements CacheManager {
     }
 
     /**
-     * Resets the stats.
+     * Resets the stats. The published counters keep counting up.
      */
     public void resetStats() {
         statsMap.clear();
     }
 
+    @Override
+    public void configureLocalCache(String cacheName, Duration ttl, long maximumSize) {
+        localCacheMap.computeIfAbsent(cacheName, name -> Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .build());
+    }
+
+    @Override
+    public void configureSerializer(
+            String cacheName, Class<? extends CacheSerializer> serializerClass, int compressionThreshold) {
+        serializerMap.computeIfAbsent(cacheName, name -> {
+            CacheSerializer serializer = serializersByClass.get(serializerClass);
+            if (serializer == null) {
+                throw new IllegalArgumentException(
+                        "No bean found for serializer " + serializerClass.getName() + " of cache " + name);
+            }
+            return compressionThreshold > 0
+                    ? new CompressingCacheSerializer(serializer, compressionThreshold)
+                    : serializer;
+        });
+    }
+
+    /**
+     * Converts a value read from Redis with the serializer of the cache. A value that can't be read, for example
+     * because it was written with another serializer, is dropped and reported as a cache miss.
+     * @param cacheName The name of the cache.
+     * @param bytes The serialized value.
+     * @return Mono of the value, empty if it could not be read.
+     */
+    private Mono<Object> deserialize(String cacheName, byte[] bytes) {
+        payloadSizeMap.get(cacheName).record(bytes.length);
+        return Mono.justOrEmpty(readValue(cacheName, bytes));
+    }
+
+    /**
+     * Converts a serialized value with the serializer of the cache.
+     * @param cacheName The name of the cache.
+     * @param bytes The serialized value.
+     * @return The value, null if it could not be read.
+     */
+    private Object readValue(String cacheName, byte[] bytes) {
+        try {
+            return serializerMap.getOrDefault(cacheName, defaultSerializer).deserialize(bytes);
+        } catch (RuntimeException e) {
+            log.warn("Unable to read cache entry of cache {}, treating it as a miss", cacheName, e);
+            return null;
+        }
+    }
+
+    /**
+     * Subscribes to evictions published by other nodes and drops the matching local entries.
+     */
+    @PostConstruct
+    public void subscribeToInvalidations() {
+        invalidationSubscription = reactiveRedisOperations
+                .listenToChannel(INVALIDATION_CHANNEL)
+                .doOnNext(message -> invalidateLocal(message.getMessage()))
+                .onErrorContinue((error, message) -> log.error("Error while processing cache invalidation", error))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void unsubscribeFromInvalidations() {
+        if (invalidationSubscription != null) {
+            invalidationSubscription.dispose();
+        }
+    }
+
+    /**
+     * Drops local entries for an invalidation message, see INVALIDATION_CHANNEL for the format.
+     * @param message The invalidation message.
+     */
+    void invalidateLocal(String message) {
+        int separatorIndex = message.indexOf(':');
+        String cacheName = separatorIndex < 0 ? message : message.substring(0, separatorIndex);
+        Cache<String, byte[]> localCache = localCacheMap.get(cacheName);
+        if (localCache == null) {
+            return;
+        }
+
+        if (separatorIndex < 0) {
+            localCache.invalidateAll();
+        } else {
+            localCache.invalidate(message.substring(separatorIndex + 1));
+        }
+    }
+
+    /**
+     * Publishes an invalidation message to all nodes, including this one.
+     * @param message The invalidation message.
+     * @return Mono<Void> that completes once the message is published.
+     */
+    private Mono<Void> publishInvalidation(String message) {
+        return reactiveRedisOperations
+                .convertAndSend(INVALIDATION_CHANNEL, message)
+                .onErrorResume(error -> {
+                    log.error("Error while publishing cache invalidation for {}", message, error);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
     @Autowired
     public RedisCacheManagerImpl(
             ReactiveRedisTemplate<String, Object> reactiveRedisTemplate,
-            ReactiveRedisOperations<String, String> reactiveRedisOperations) {
+            ReactiveRedisOperations<String, String> reactiveRedisOperations,
+            ObjectProvider<MeterRegistry> meterRegistryProvider,
+            List<CacheSerializer> cacheSerializers) {
         this.reactiveRedisTemplate = reactiveRedisTemplate;
         this.reactiveRedisOperations = reactiveRedisOperations;
+        this.meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+        cacheSerializers.forEach(serializer -> serializersByClass.put(serializer.getClass(), serializer));
+        this.defaultSerializer = serializersByClass.get(RedisTemplateCacheSerializer.class);
+
+        // Values are serialized by the serializer of each cache, so they are stored as plain bytes
+        RedisSerializationContext<String, byte[]> serializationContext =
+                RedisSerializationContext.<String, byte[]>newSerializationContext(RedisSerializer.byteArray())
+                        .key(RedisSerializer.string())
+                        .hashKey(RedisSerializer.string())
+                        .build();
+        this.byteArrayRedisTemplate =
+                new ReactiveRedisTemplate<>(reactiveRedisTemplate.getConnectionFactory(), serializationContext);
     }
 
     @Override
     public Mono<Object> get(String cacheName, String key) {
         ensureStats(cacheName);
         String path = cacheName + ":" + key;
-        return reactiveRedisTemplate
+        Cache<String, byte[]> localCache = localCacheMap.get(cacheName);
+        if (localCache != null) {
+            // Local entries are kept serialized, so that a caller changing the value it gets doesn't change what later
+            // callers get
+            byte[] localBytes = localCache.getIfPresent(key);
+            Object localValue = localBytes == null ? null : readValue(cacheName, localBytes);
+            if (localValue != null) {
+                // This is a local hit, no need to go to Redis at all
+                recordStat(cacheName, CacheStats::getHits, CacheCounters::hits);
+                return Mono.just(localValue);
+            }
+        }
+
+        Mono<Object> valueMono = byteArrayRedisTemplate
                 .opsForValue()
                 .get(path)
+                .flatMap(bytes -> deserialize(cacheName, bytes).doOnNext(value -> {
+                    if (localCache != null) {
+                        localCache.put(key, bytes);
+                    }
+                }))
                 .map(value -> {
                     // This is a cache hit, update stats and return value
-                    statsMap.get(cacheName).getHits().incrementAndGet();
+                    recordStat(cacheName, CacheStats::getHits, CacheCounters::hits);
                     return value;
                 })
                 .switchIfEmpty(Mono.defer(() -> {
                     // This is a cache miss, update stats and return empty
-                    statsMap.get(cacheName).getMisses().incrementAndGet();
+                    recordStat(cacheName, CacheStats::getMisses, CacheCounters::misses);
                     log.debug("Cache miss for key {}", path);
                     return Mono.empty();
                 }));
+        return timed(valueMono, getTimerMap.get(cacheName));
     }
 
     @Override
@@ -91,26 +340,45 @@ public class RedisCacheManagerImpl implements CacheManager {
         ensureStats(cacheName);
         String path = cacheName + ":" + key;
         log.debug("Cache entry added for key {}", path);
-        return reactiveRedisTemplate.opsForValue().set(path, value);
+        Cache<String, byte[]> localCache = localCacheMap.get(cacheName);
+        Mono<Boolean> putMono = Mono.fromCallable(() ->
+                        serializerMap.getOrDefault(cacheName, defaultSerializer).serialize(value))
+                .doOnNext(bytes -> {
+                    payloadSizeMap.get(cacheName).record(bytes.length);
+                    if (localCache != null) {
+                        localCache.put(key, bytes);
+                    }
+                })
+                .flatMap(bytes -> byteArrayRedisTemplate.opsForValue().set(path, bytes));
+        return timed(putMono, putTimerMap.get(cacheName));
     }
 
     @Override
     public Mono<Void> evict(String cacheName, String key) {
         ensureStats(cacheName);
-        statsMap.get(cacheName).getSingleEvictions().incrementAndGet();
+        recordStat(cacheName, CacheStats::getSingleEvictions, CacheCounters::singleEvictions);
         String path = cacheName + ":" + key;
         log.debug("Cache entry evicted for key {}", path);
-        return reactiveRedisTemplate.delete(path).then();
+        invalidateLocal(path);
+        return reactiveRedisTemplate.delete(path).then(publishInvalidation(path));
     }
 
     @Override
     public Mono<Void> evictAll(String cacheName) {
         ensureStats(cacheName);
-        statsMap.get(cacheName).getCompleteEvictions().incrementAndGet();
+        recordStat(cacheName, CacheStats::getCompleteEvictions, CacheCounters::completeEvictions);
         String path = cacheName;
-        // Remove all matching keys with wildcard
-        final String script =
-                "for _,k in ipairs(redis.call('keys','" + path + ":*'))" + " do redis.call('del',k) " + "end";
-        return reactiveRedisOperations.execute(RedisScript.of(script)).then();
+        invalidateLocal(path);
+        // Remove all matching keys incrementally. Unlike KEYS, SCAN never blocks Redis for the whole keyspace, and
+        // UNLINK reclaims the memory in a background thread.
+        ScanOptions scanOptions = ScanOptions.scanOptions()
+                .match(path + ":*")
+                .count(EVICT_BATCH_SIZE)
+                .build();
+        return reactiveRedisTemplate
+                .scan(scanOptions)
+                .buffer(EVICT_BATCH_SIZE)
+                .concatMap(keys -> reactiveRedisTemplate.unlink(keys.toArray(new String[0])))
+                .then(publishInvalidation(path));
     }
 }
@@ -0,0 +1,21 @@
+package com.appsmith.caching.serializers;
+
+/**
+ * CacheSerializer converts cached values to and from the bytes stored in the cache backend.
+ * Implementations are Spring beans and are selected per cache with the serializer field of the Cache annotation.
+ */
+public interface CacheSerializer {
+    /**
+     * This will convert the value to bytes.
+     * @param value The value to be cached.
+     * @return The serialized value.
+     */
+    byte[] serialize(Object value);
+
+    /**
+     * This will convert bytes written by serialize back to the value.
+     * @param bytes The serialized value.
+     * @return The cached value.
+     */
+    Object deserialize(byte[] bytes);
+}
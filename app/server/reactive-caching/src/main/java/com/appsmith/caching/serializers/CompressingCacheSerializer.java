@@ -0,0 +1,62 @@
+package com.appsmith.caching.serializers;
+
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * CompressingCacheSerializer wraps another serializer and gzips payloads that are at least compressionThreshold bytes.
+ * Every payload is prefixed with a single byte telling whether the rest of it is compressed.
+ */
+public class CompressingCacheSerializer implements CacheSerializer {
+
+    private static final byte UNCOMPRESSED = 0;
+    private static final byte COMPRESSED = 1;
+
+    private final CacheSerializer delegate;
+    private final int compressionThreshold;
+
+    public CompressingCacheSerializer(CacheSerializer delegate, int compressionThreshold) {
+        this.delegate = delegate;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public byte[] serialize(Object value) {
+        byte[] bytes = delegate.serialize(value);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(bytes.length + 1);
+        if (bytes.length < compressionThreshold) {
+            outputStream.write(UNCOMPRESSED);
+            outputStream.writeBytes(bytes);
+            return outputStream.toByteArray();
+        }
+
+        outputStream.write(COMPRESSED);
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(bytes);
+        } catch (IOException e) {
+            throw new SerializationException("Could not compress cache value: " + e.getMessage(), e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) {
+        if (bytes.length == 0 || bytes[0] == UNCOMPRESSED) {
+            byte[] payload = new byte[Math.max(bytes.length - 1, 0)];
+            System.arraycopy(bytes, 1, payload, 0, payload.length);
+            return delegate.deserialize(payload);
+        }
+
+        try (GZIPInputStream gzipInputStream =
+                new GZIPInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1))) {
+            return delegate.deserialize(gzipInputStream.readAllBytes());
+        } catch (IOException e) {
+            throw new SerializationException("Could not decompress cache value: " + e.getMessage(), e);
+        }
+    }
+}
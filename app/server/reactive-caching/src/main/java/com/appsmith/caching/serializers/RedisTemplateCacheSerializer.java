@@ -0,0 +1,37 @@
+package com.appsmith.caching.serializers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.util.ByteUtils;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+
+/**
+ * RedisTemplateCacheSerializer uses the value serializer of the application's ReactiveRedisTemplate.
+ * This is the default for all caches and keeps the format of entries written before serializers were pluggable.
+ */
+@Component
+@ConditionalOnClass({ReactiveRedisTemplate.class})
+public class RedisTemplateCacheSerializer implements CacheSerializer {
+
+    private final RedisSerializationContext.SerializationPair<Object> valueSerializationPair;
+
+    @Autowired
+    public RedisTemplateCacheSerializer(ReactiveRedisTemplate<String, Object> reactiveRedisTemplate) {
+        this.valueSerializationPair =
+                reactiveRedisTemplate.getSerializationContext().getValueSerializationPair();
+    }
+
+    @Override
+    public byte[] serialize(Object value) {
+        return ByteUtils.getBytes(valueSerializationPair.write(value));
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) {
+        return valueSerializationPair.read(ByteBuffer.wrap(bytes));
+    }
+}
@@ -0,0 +1,58 @@
+package com.appsmith.caching.serializers;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * SmileCacheSerializer stores values in Smile, the binary encoding of JSON, which is more compact and faster to decode
+ * than both JDK serialization and textual JSON. Type information is embedded so that values are read back as the
+ * same classes, hence cached classes need to be deserializable by Jackson. Only Appsmith, collection and date-time
+ * classes are accepted as embedded types, so that a tampered entry cannot make the server instantiate arbitrary classes.
+ */
+@Component
+public class SmileCacheSerializer implements CacheSerializer {
+
+    private static final PolymorphicTypeValidator TYPE_VALIDATOR = BasicPolymorphicTypeValidator.builder()
+            .allowIfSubType("com.appsmith.")
+            .allowIfSubType("java.util.")
+            .allowIfSubType("java.time.")
+            .allowIfSubTypeIsArray()
+            .build();
+
+    private final ObjectMapper objectMapper;
+
+    public SmileCacheSerializer() {
+        objectMapper = new ObjectMapper(new SmileFactory());
+        objectMapper.findAndRegisterModules();
+        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        objectMapper.activateDefaultTyping(
+                TYPE_VALIDATOR, ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
+    }
+
+    @Override
+    public byte[] serialize(Object value) {
+        try {
+            // Written as an Object, so that the root value carries its type even when its class is final
+            return objectMapper.writerFor(Object.class).writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("Could not write Smile: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) {
+        try {
+            return objectMapper.readValue(bytes, Object.class);
+        } catch (IOException e) {
+            throw new SerializationException("Could not read Smile: " + e.getMessage(), e);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.appsmith.testcaching.service;
 
 import com.appsmith.caching.annotations.Cache;
 import com.appsmith.caching.annotations.CacheEvict;
+import com.appsmith.caching.serializers.SmileCacheSerializer;
 import com.appsmith.testcaching.model.ArgumentModel;
 import com.appsmith.testcaching.model.TestModel;
 import org.springframework.stereotype.Service;
@@ -107,4 +108,48 @@ public class CacheTestService {
     public Mono<Void> evictObjectForWithKey(String id) {
         return Mono.empty();
     }
+
+    /**
+     * This method is used to test the in-process tier of the cache for Mono<T>.
+     * @param id The id
+     * @return The Mono<TestModel> object, random every time
+     */
+    @Cache(cacheName = "localobjectcache", localTtlSeconds = 60)
+    public Mono<TestModel> getLocalObjectFor(String id) {
+        TestModel model = factory.manufacturePojo(TestModel.class);
+        model.setId(id);
+        return Mono.just(model).delayElement(Duration.ofSeconds(2));
+    }
+
+    /**
+     * This method is used to test the eviction of the in-process tier for Mono<T>.
+     * @param id The id
+     * @return Mono<Void> that completes after eviction
+     */
+    @CacheEvict(cacheName = "localobjectcache")
+    public Mono<Void> evictLocalObjectFor(String id) {
+        return Mono.empty();
+    }
+
+    /**
+     * This method is used to test caching with the Smile serializer and compression for Mono<T>.
+     * @param id The id
+     * @return The Mono<TestModel> object, random every time
+     */
+    @Cache(cacheName = "smileobjectcache", serializer = SmileCacheSerializer.class, compressionThreshold = 16)
+    public Mono<TestModel> getSmileObjectFor(String id) {
+        TestModel model = factory.manufacturePojo(TestModel.class);
+        model.setId(id);
+        return Mono.just(model).delayElement(Duration.ofSeconds(2));
+    }
+
+    /**
+     * This method is used to test the eviction of a cache using the Smile serializer.
+     * @param id The id
+     * @return Mono<Void> that completes after eviction
+     */
+    @CacheEvict(cacheName = "smileobjectcache")
+    public Mono<Void> evictSmileObjectFor(String id) {
+        return Mono.empty();
+    }
 }
@@ -0,0 +1,86 @@
+package com.appsmith.testcaching.test;
+
+import com.appsmith.caching.components.RedisCacheManagerImpl;
+import com.appsmith.caching.serializers.SmileCacheSerializer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class RedisCacheManagerImplTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private RedisCacheManagerImpl cacheManager;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        ReactiveRedisTemplate<String, Object> reactiveRedisTemplate = Mockito.mock(ReactiveRedisTemplate.class);
+        Mockito.when(reactiveRedisTemplate.getConnectionFactory())
+                .thenReturn(Mockito.mock(ReactiveRedisConnectionFactory.class));
+        ObjectProvider<MeterRegistry> meterRegistryProvider = Mockito.mock(ObjectProvider.class);
+        Mockito.when(meterRegistryProvider.getIfAvailable(Mockito.any())).thenReturn(meterRegistry);
+
+        cacheManager = new RedisCacheManagerImpl(
+                reactiveRedisTemplate,
+                Mockito.mock(ReactiveRedisOperations.class),
+                meterRegistryProvider,
+                List.of(new SmileCacheSerializer()));
+        cacheManager.configureSerializer("cache", SmileCacheSerializer.class, 0);
+        cacheManager.configureLocalCache("cache", Duration.ofMinutes(1), 10);
+    }
+
+    @Test
+    public void testResetStats_keepsPublishedCountersGoingUp() {
+        putLocally("key", "value");
+        cacheManager.get("cache", "key").block();
+
+        cacheManager.resetStats();
+        cacheManager.get("cache", "key").block();
+
+        assertEquals(
+                2.0,
+                meterRegistry
+                        .get("appsmith.cache.gets")
+                        .tag("cache", "cache")
+                        .tag("result", "hit")
+                        .counter()
+                        .count());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testGet_whenCallerChangesLocalValue_laterCallersGetCachedValue() {
+        Map<String, Object> value = new HashMap<>();
+        value.put("name", "cached");
+        putLocally("key", value);
+
+        Map<String, Object> firstValue =
+                (Map<String, Object>) cacheManager.get("cache", "key").block();
+        firstValue.put("name", "changed");
+
+        assertEquals(value, cacheManager.get("cache", "key").block());
+    }
+
+    private void putLocally(String key, Object value) {
+        // There is no Redis in these tests, so only the local tier gets the value
+        cacheManager
+                .put("cache", key, value)
+                .onErrorResume(error -> Mono.empty())
+                .block();
+    }
+}
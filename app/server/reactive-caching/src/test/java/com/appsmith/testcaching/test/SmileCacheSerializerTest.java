@@ -0,0 +1,51 @@
+package com.appsmith.testcaching.test;
+
+import com.appsmith.caching.serializers.SmileCacheSerializer;
+import com.appsmith.testcaching.model.NestedModel;
+import com.appsmith.testcaching.model.TestModel;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SmileCacheSerializerTest {
+
+    private final SmileCacheSerializer serializer = new SmileCacheSerializer();
+
+    @Test
+    public void testSerialize_withAllowedTypes_readsBackSameValues() {
+        TestModel model = new TestModel();
+        model.setId("id");
+        model.setLongValue(1L);
+        model.setNestedModel(new NestedModel());
+        Map<String, Object> value = new HashMap<>();
+        value.put("model", model);
+        value.put("ids", new HashSet<>(Set.of("a", "b")));
+        value.put("refreshedAt", Instant.parse("2023-06-01T10:00:00Z"));
+
+        assertEquals(value, serializer.deserialize(serializer.serialize(value)));
+    }
+
+    @Test
+    public void testSerialize_withFinalClass_readsBackSameValue() {
+        assertEquals("value", serializer.deserialize(serializer.serialize("value")));
+    }
+
+    @Test
+    public void testDeserialize_withTypeOutsideAllowedPackages_throwsException() throws Exception {
+        // A value that was not written by the serializer, naming a class it must never instantiate
+        byte[] bytes = new ObjectMapper(new SmileFactory()).writeValueAsBytes(List.of("java.net.URL", "http://x"));
+
+        assertThrows(SerializationException.class, () -> serializer.deserialize(bytes));
+    }
+}
@@ -6,16 +6,27 @@ import com.appsmith.testcaching.model.TestModel;
 import com.appsmith.testcaching.service.CacheTestService;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
 
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 @SpringBootTest
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
@@ -28,6 +39,9 @@ public class TestCachingMethods {
     @Autowired
     private CacheManager cacheManager;
 
+    @Autowired
+    private ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
+
     /**
      * This Test is used to test the caching of a method that returns a Mono<T>
      */
@@ -64,6 +78,40 @@ public class TestCachingMethods {
         }
     }
 
+    /**
+     * This Test is used to test caching with a serializer other than the default one, along with compression
+     */
+    @Test
+    public void testCacheAndEvictWithSmileSerializer() {
+        TestModel model = cacheTestService.getSmileObjectFor("test1").block();
+        TestModel model2 = cacheTestService.getSmileObjectFor("test1").block();
+        assertEquals(model, model2);
+
+        cacheTestService.evictSmileObjectFor("test1").block();
+
+        // If not evicted with above call, this will return the same object
+        model2 = cacheTestService.getSmileObjectFor("test1").block();
+        assertNotEquals(model, model2);
+    }
+
+    /**
+     * This Test is used to test that concurrent cache misses for the same key share one call of the original method
+     */
+    @Test
+    public void testConcurrentMissesShareOneCall() {
+        cacheTestService.evictObjectFor("test3").block();
+
+        List<TestModel> models = Flux.range(0, 10)
+                .flatMap(i -> cacheTestService.getObjectFor("test3"))
+                .collectList()
+                .block();
+
+        // Every call of the original method returns a random object, so all of them being equal means one call
+        for (TestModel model : models) {
+            assertEquals(models.get(0), model);
+        }
+    }
+
     /**
      * This Test is used to test evict all
      */
@@ -99,6 +147,23 @@ public class TestCachingMethods {
         assertNotEquals(model, model2);
     }
 
+    /**
+     * This Test is used to test the in-process tier in front of Redis
+     */
+    @Test
+    public void testLocalCacheAndEvict() {
+        TestModel model = cacheTestService.getLocalObjectFor("test1").block();
+        TestModel model2 = cacheTestService.getLocalObjectFor("test1").block();
+        // Served from the in-process tier, so it is the very same instance
+        assertSame(model, model2);
+
+        cacheTestService.evictLocalObjectFor("test1").block();
+
+        // If not evicted from both tiers with above call, this will return the same object
+        model2 = cacheTestService.getLocalObjectFor("test1").block();
+        assertNotEquals(model, model2);
+    }
+
     /**
      * Test to measure performance of caching
      */
@@ -116,6 +181,60 @@ public class TestCachingMethods {
         log.info("Time taken for cache operation " + (timeTaken / count) + " nanos");
     }
 
+    /**
+     * Test to measure Redis latency for other commands while a cache with 1M keys is evicted completely. It takes a
+     * while, so it's left out of the default build, run it with `mvn test -Dgroups=benchmark -DexcludedGroups=`
+     */
+    @Test
+    @Tag("benchmark")
+    public void measureEvictAllLatency() {
+        int count = 1_000_000;
+        int batchSize = 10_000;
+        Flux.range(0, count / batchSize)
+                .concatMap(batch -> {
+                    Map<String, Object> entries = new HashMap<>();
+                    for (int i = batch * batchSize; i < (batch + 1) * batchSize; i++) {
+                        entries.put("largecache:" + i, "value" + i);
+                    }
+                    return reactiveRedisTemplate.opsForValue().multiSet(entries);
+                })
+                .blockLast();
+
+        AtomicBoolean evicting = new AtomicBoolean(true);
+        AtomicLong maxLatency = new AtomicLong(0);
+        Disposable latencyProbe = Flux.interval(Duration.ofMillis(5))
+                .takeWhile(tick -> evicting.get())
+                .concatMap(tick -> {
+                    long start = System.nanoTime();
+                    return reactiveRedisTemplate
+                            .hasKey("largecache:0")
+                            .doOnNext(exists -> maxLatency.accumulateAndGet(System.nanoTime() - start, Math::max));
+                })
+                .subscribe();
+
+        long initialTime = System.nanoTime();
+        long timeTaken;
+        try {
+            cacheManager.evictAll("largecache").block();
+            timeTaken = System.nanoTime() - initialTime;
+        } finally {
+            evicting.set(false);
+            latencyProbe.dispose();
+        }
+
+        assertEquals(
+                0L,
+                reactiveRedisTemplate
+                        .scan(ScanOptions.scanOptions().match("largecache:*").build())
+                        .count()
+                        .block());
+        log.info(
+                "Time taken to evict {} keys {} millis, max latency of concurrent commands {} millis",
+                count,
+                timeTaken / 1_000_000,
+                maxLatency.get() / 1_000_000);
+    }
+
     /**
      * Log stats in the end
      */